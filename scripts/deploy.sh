@@ -13,7 +13,19 @@ if [ -z "$CURRENT_PID" ]; then
 else
   echo "> kill -15 $CURRENT_PID"
   kill -15 $CURRENT_PID
-  sleep 5
+
+  # 종료할 때 검색 색인을 커밋하고 write.lock을 놓으므로 프로세스가 끝날 때까지 기다린다. (최대 40초)
+  for i in $(seq 1 40); do
+    if ! kill -0 $CURRENT_PID 2> /dev/null; then
+      break
+    fi
+    sleep 1
+  done
+
+  if kill -0 $CURRENT_PID 2> /dev/null; then
+    echo "> 40초 안에 종료되지 않아 kill -9 $CURRENT_PID"
+    kill -9 $CURRENT_PID
+  fi
 fi
 
 echo "> 새 애플리케이션 배포"
@@ -0,0 +1,127 @@
+package com.forever.dadamda.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Value("${scrap.ingestion.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${scrap.ingestion.max-pool-size:16}")
+    private int maxPoolSize;
+
+    @Value("${scrap.ingestion.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${mvc.async.pool-size:16}")
+    private int mvcAsyncPoolSize;
+
+    @Value("${mvc.async.queue-capacity:200}")
+    private int mvcAsyncQueueCapacity;
+
+    @Value("${search.index.queue-capacity:10000}")
+    private int searchIndexQueueCapacity;
+
+    /**
+     * 비동기 스크랩 크롤링 전용 스레드 풀 (큐가 가득 차면 TaskRejectedException 발생)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor scrapIngestionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("scrap-ingestion-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Flux 등 MVC 비동기 응답을 쓰는 스레드 풀
+     * (scrapIngestionExecutor가 있으면 기본 applicationTaskExecutor가 만들어지지 않는다)
+     * 큐가 가득 차면 TaskRejectedException이 발생하고 503으로 응답한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mvcAsyncPoolSize);
+        executor.setMaxPoolSize(mvcAsyncPoolSize);
+        executor.setQueueCapacity(mvcAsyncQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 검색 인덱스 갱신 스레드 (IndexWriter는 하나라서 스레드 하나로 충분하다)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(searchIndexQueueCapacity);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 재크롤링 작업 스레드 (처리율 제한으로 오래 기다리므로 스케줄 스레드에서 실행하지 않는다)
+     * 이전 실행이 끝나지 않았으면 이번 실행은 건너뛴다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor recrawlingExecutor() {
+        return singleJobExecutor("recrawling-", false);
+    }
+
+    /**
+     * 검색 색인 동기화 작업 스레드 (이전 실행이 끝나지 않았으면 이번 실행은 건너뛴다)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchSyncExecutor() {
+        return singleJobExecutor("search-sync-", true);
+    }
+
+    /**
+     * 검색 색인 전체 다시 색인 작업 스레드 (이전 실행이 끝나지 않았으면 이번 실행은 건너뛴다)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchReconcileExecutor() {
+        return singleJobExecutor("search-reconcile-", true);
+    }
+
+    // 스케줄 작업 하나를 실행하는 스레드 (대기 큐 없이 실행 중이면 버린다)
+    private ThreadPoolTaskExecutor singleJobExecutor(String threadNamePrefix,
+            boolean waitForJobOnShutdown) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(waitForJobOnShutdown);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+    }
+}
@@ -0,0 +1,48 @@
+package com.forever.dadamda.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 크롤링 서버 호출용 서킷 브레이커와 벌크헤드 (설정은 resilience4j.*.instances.crawling)
+ * 상태와 호출 수는 resilience4j.circuitbreaker.*, resilience4j.bulkhead.* 지표로 actuator에 노출된다.
+ */
+@Configuration
+public class CrawlingResilienceConfig {
+
+    private static final String CRAWLING = "crawling";
+
+    @Bean
+    public CircuitBreaker crawlingCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker(CRAWLING);
+    }
+
+    @Bean
+    public Bulkhead crawlingBulkhead(BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(CRAWLING);
+
+        // 벌크헤드 지표에는 거절 수가 없어서 따로 집계한다.
+        Counter rejectedCounter = Counter.builder("crawling.bulkhead.rejected")
+                .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejectedCounter.increment());
+
+        return bulkhead;
+    }
+
+    /**
+     * 스크랩 재크롤링이 크롤링 서버에 부담을 주지 않도록 초당 호출 수를 제한한다.
+     */
+    @Bean
+    public RateLimiter recrawlingRateLimiter(RateLimiterRegistry rateLimiterRegistry) {
+        return rateLimiterRegistry.rateLimiter("recrawling");
+    }
+}
@@ -0,0 +1,22 @@
+package com.forever.dadamda.config;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL에서 사용할 MySQL 전용 함수 등록 (spring.jpa.properties.hibernate.metadata_builder_contributor)
+ */
+public class MysqlFunctionContributor implements MetadataBuilderContributor {
+
+    // match_against(title, description, keyword) -> MATCH (title, description) AGAINST (keyword IN BOOLEAN MODE)
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE,
+                        "match (?1, ?2) against (?3 in boolean mode)"));
+    }
+}
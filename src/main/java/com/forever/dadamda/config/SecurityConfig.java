@@ -7,6 +7,7 @@ import com.forever.dadamda.filter.JwtAuthFilter;
 import com.forever.dadamda.config.oauth.handler.OAuth2FailureHandler;
 import com.forever.dadamda.config.oauth.handler.OAuth2SuccessHandler;
 import com.forever.dadamda.service.TokenService;
+import com.forever.dadamda.service.user.UserCacheService;
 import com.forever.dadamda.config.oauth.CustomOAuth2UserService;
 
 import java.util.Arrays;
@@ -28,6 +29,7 @@ public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
     private final TokenService tokenService;
+    private final UserCacheService userCacheService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
 
@@ -86,7 +88,7 @@ public class SecurityConfig {
                 .exceptionHandling()
                 .authenticationEntryPoint(new JwtAuthenticationEntryPoint())
                 .and()
-                .addFilterBefore(new JwtAuthFilter(tokenService),
+                .addFilterBefore(new JwtAuthFilter(tokenService, userCacheService),
                         UsernamePasswordAuthenticationFilter.class)
                 .oauth2Login()
                 .authorizationEndpoint().baseUri("/oauth2/authorization/**")
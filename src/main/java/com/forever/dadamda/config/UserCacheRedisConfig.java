@@ -0,0 +1,29 @@
+package com.forever.dadamda.config;
+
+import com.forever.dadamda.service.user.UserCacheService;
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다른 서버에서 회원 정보가 바뀌면 Redis 채널로 받아서 이 서버의 회원 캐시를 지운다.
+ */
+@Configuration
+@ConditionalOnProperty(value = "user.cache.redis-enabled", matchIfMissing = true, havingValue = "true")
+public class UserCacheRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer userCacheListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, UserCacheService userCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> userCacheService.evictLocal(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(UserCacheService.EVICT_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,89 @@
+package com.forever.dadamda.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    private static final ObjectMapper crawlingObjectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Value("${crawling.client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${crawling.client.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${crawling.client.pending-acquire-timeout-millis:3000}")
+    private long pendingAcquireTimeoutMillis;
+
+    @Value("${crawling.client.max-idle-time-seconds:30}")
+    private long maxIdleTimeSeconds;
+
+    @Value("${crawling.client.max-life-time-seconds:300}")
+    private long maxLifeTimeSeconds;
+
+    @Value("${crawling.client.evict-in-background-seconds:60}")
+    private long evictInBackgroundSeconds;
+
+    @Value("${crawling.client.connect-timeout-millis:2000}")
+    private int connectTimeoutMillis;
+
+    @Value("${crawling.client.read-timeout-millis:10000}")
+    private long readTimeoutMillis;
+
+    /**
+     * 크롤링 서버 호출용 커넥션 풀 (metrics(true)로 reactor.netty.connection.provider.* 지표를 actuator에 노출)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider crawlingConnectionProvider() {
+        return ConnectionProvider.builder("crawling")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(evictInBackgroundSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 크롤링 서버가 느려도 요청 스레드가 무한정 대기하지 않도록 연결/응답 타임아웃을 둔다.
+     */
+    @Bean
+    public WebClient crawlingWebClient(ConnectionProvider crawlingConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(crawlingConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public ObjectReader crawlingBodyReader() {
+        return crawlingObjectMapper.readerFor(WebClientBodyResponse.class);
+    }
+
+    @Bean
+    public ObjectWriter crawlingBodyWriter() {
+        return crawlingObjectMapper.writerFor(WebClientBodyResponse.class);
+    }
+}
@@ -9,7 +9,11 @@ import static com.forever.dadamda.service.UUIDService.generateUUID;
 import com.forever.dadamda.dto.user.OAuthAttributes;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.repository.UserRepository;
+import com.forever.dadamda.service.counter.UserCounterService;
+import com.forever.dadamda.service.user.NicknamePoolService;
+import com.forever.dadamda.service.user.UserCacheService;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +35,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
+    private final NicknamePoolService nicknamePoolService;
+    private final UserCounterService userCounterService;
 
     @Override
     @Transactional
@@ -58,12 +65,28 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         User user = userRepository.findByEmailAndDeletedDateIsNull(attributes.getEmail())
                 .map(entity -> entity.updateName(attributes.getName()))
                 .orElseGet(() -> attributes.toEntity(getNewNickname(), generateUUID()));
+        boolean isNewUser = user.getId() == null;
 
-        return userRepository.save(user);
+        userCacheService.evict(attributes.getEmail());
+
+        User savedUser = userRepository.save(user);
+        if (isNewUser) {
+            userCounterService.createCounters(savedUser.getId());
+        }
+
+        return savedUser;
     }
 
+    /**
+     * 닉네임 풀에서 꺼낸다. 풀이 비어있을 때만(처음 배포했거나 채우는 중) 랜덤 닉네임을 하나씩 확인한다.
+     */
     @Transactional(readOnly = true)
     public String getNewNickname() {
+        Optional<String> pooledNickname = nicknamePoolService.allocate();
+        if (pooledNickname.isPresent()) {
+            return pooledNickname.get();
+        }
+
         int limit = adjectivesLength * animalsLength * numberLength;
         Set<String> usedNicknames = new HashSet<>();
 
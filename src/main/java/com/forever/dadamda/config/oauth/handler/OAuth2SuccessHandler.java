@@ -5,6 +5,7 @@ import static com.forever.dadamda.config.oauth.HttpCookieOAuth2AuthorizationRequ
 import com.forever.dadamda.config.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.forever.dadamda.config.oauth.util.CookieUtils;
 import com.forever.dadamda.service.TokenService;
+import com.forever.dadamda.service.user.UserService;
 import java.io.IOException;
 import java.util.Map;
 
@@ -25,6 +26,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     private final TokenService tokenService;
 
+    private final UserService userService;
+
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
 
     @Value("${login.redirect.url}")
@@ -47,7 +50,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             email = (String) kakaoAccount.get("email");
         }
 
-        String token = tokenService.generateToken(email, "USER");
+        String token = tokenService.generateToken(userService.validateUser(email), "USER");
 
         String targetUrl = LOGIN_REDIRECT_URL + token;
 
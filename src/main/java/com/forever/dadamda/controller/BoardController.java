@@ -13,6 +13,7 @@ import com.forever.dadamda.dto.board.PostCopyBoardsResponse;
 import com.forever.dadamda.dto.board.UpdateBoardContentsRequest;
 import com.forever.dadamda.dto.board.UpdateBoardRequest;
 import com.forever.dadamda.dto.board.GetBoardDetailResponse;
+import com.forever.dadamda.dto.upload.GetPresignedUploadUrlResponse;
 import com.forever.dadamda.service.BoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -126,6 +127,30 @@ public class BoardController {
         return ApiResponse.success();
     }
 
+    @Operation(summary = "보드 썸네일 업로드 URL 발급", description = "보드 썸네일을 S3에 직접 업로드할 presigned URL을 발급합니다. 업로드 후 확인 API를 호출해야 반영됩니다.")
+    @PostMapping("/v1/boards/{boardUUID}/thumbnail/upload-url")
+    public ApiResponse<GetPresignedUploadUrlResponse> getThumbnailImageUploadUrl(
+            @PathVariable @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
+                    message = "UUID가 올바르지 않습니다.") String boardUUID,
+            @RequestParam("contentType") String contentType,
+            Authentication authentication) {
+        String email = authentication.getName();
+        return ApiResponse.success(boardService.getThumbnailImageUploadUrl(email,
+                UUID.fromString(boardUUID), contentType));
+    }
+
+    @Operation(summary = "보드 썸네일 업로드 확인", description = "presigned URL로 업로드한 보드 썸네일을 uploadKey로 확인하고 반영합니다. 확인에 실패하면 기존 썸네일은 그대로 남습니다.")
+    @PostMapping("/v1/boards/{boardUUID}/thumbnail/confirm")
+    public ApiResponse<String> confirmThumbnailImage(
+            @PathVariable @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
+                    message = "UUID가 올바르지 않습니다.") String boardUUID,
+            @RequestParam("uploadKey") String uploadKey,
+            Authentication authentication) {
+        String email = authentication.getName();
+        boardService.confirmThumbnailImage(email, UUID.fromString(boardUUID), uploadKey);
+        return ApiResponse.success();
+    }
+
     @Operation(summary = "보드 검색", description = "보드를 보드명으로 검색할 수 있습니다.")
     @GetMapping("/v1/boards/search")
     public ApiResponse<Slice<GetBoardResponse>> searchBoards(
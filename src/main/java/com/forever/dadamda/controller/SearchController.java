@@ -0,0 +1,35 @@
+package com.forever.dadamda.controller;
+
+import com.forever.dadamda.dto.ApiResponse;
+import com.forever.dadamda.dto.search.GetSearchResponse;
+import com.forever.dadamda.service.search.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import javax.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RequiredArgsConstructor
+@RestController
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(summary = "통합 검색", description = "스크랩, 메모, 보드를 키워드 관련도 순으로 한번에 검색할 수 있습니다.")
+    @GetMapping("/v1/search")
+    public ApiResponse<Slice<GetSearchResponse>> search(
+            @RequestParam("keyword") @NotBlank String keyword,
+            Pageable pageable,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(searchService.search(email, keyword, pageable));
+    }
+}
@@ -2,8 +2,10 @@ package com.forever.dadamda.controller;
 
 import com.forever.dadamda.dto.ApiResponse;
 import com.forever.dadamda.dto.board.CreateBoardRequest;
+import com.forever.dadamda.dto.upload.GetPresignedUploadUrlResponse;
 import com.forever.dadamda.dto.user.GetProfileUrlResponse;
 import com.forever.dadamda.dto.user.GetUserInfoResponse;
+import com.forever.dadamda.dto.user.GetUserSummaryResponse;
 import com.forever.dadamda.dto.user.UpdateNicknameRequest;
 import com.forever.dadamda.service.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +40,14 @@ public class UserController {
         return ApiResponse.success(userService.getUserInfo(email));
     }
 
+    @Operation(summary = "회원 요약 정보 조회", description = "회원 정보와 타입별 스크랩 개수, 보드 개수를 한번에 조회할 수 있습니다.")
+    @GetMapping("/v1/user/summary")
+    public ApiResponse<GetUserSummaryResponse> getUserSummary(Authentication authentication) {
+        String email = authentication.getName();
+
+        return ApiResponse.success(userService.getUserSummary(email));
+    }
+
     @Operation(summary = "회원 탈퇴", description = "해당 회원 탈퇴할 수 있습니다.")
     @DeleteMapping("/v1/user")
     public ApiResponse<String> deleteUser(Authentication authentication) {
@@ -66,6 +76,25 @@ public class UserController {
         return ApiResponse.success();
     }
 
+    @Operation(summary = "회원 프로필 이미지 업로드 URL 발급", description = "프로필 이미지를 S3에 직접 업로드할 presigned URL을 발급합니다. 업로드 후 확인 API를 호출해야 반영됩니다.")
+    @PostMapping("/v1/user/profile/image/upload-url")
+    public ApiResponse<GetPresignedUploadUrlResponse> getProfileImageUploadUrl(
+            @RequestParam("contentType") String contentType, Authentication authentication) {
+        String email = authentication.getName();
+
+        return ApiResponse.success(userService.getProfileImageUploadUrl(email, contentType));
+    }
+
+    @Operation(summary = "회원 프로필 이미지 업로드 확인", description = "presigned URL로 업로드한 프로필 이미지를 uploadKey로 확인하고 반영합니다. 확인에 실패하면 기존 프로필 이미지는 그대로 남습니다.")
+    @PostMapping("/v1/user/profile/image/confirm")
+    public ApiResponse<String> confirmProfileImage(@RequestParam("uploadKey") String uploadKey,
+            Authentication authentication) {
+        String email = authentication.getName();
+        userService.confirmProfileImage(email, uploadKey);
+
+        return ApiResponse.success();
+    }
+
     @Operation(summary = "회원 프로필 이미지 삭제", description = "해당 회원 프로필 이미지를 삭제할 수 있습니다.")
     @DeleteMapping("/v1/user/profile/image")
     public ApiResponse deleteProfileImage(Authentication authentication) {
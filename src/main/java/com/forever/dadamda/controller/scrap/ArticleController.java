@@ -1,11 +1,14 @@
 package com.forever.dadamda.controller.scrap;
 
 import com.forever.dadamda.dto.ApiResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.article.GetArticleCountResponse;
 import com.forever.dadamda.dto.scrap.article.GetArticleResponse;
 import com.forever.dadamda.service.scrap.ArticleService;
 import io.swagger.v3.oas.annotations.Operation;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -51,4 +54,17 @@ public class ArticleController {
 
         return ApiResponse.success(articleService.searchArticles(email, keyword, pageable));
     }
+
+    @Operation(summary = "아티클 스크랩 커서 조회", description = "cursor 이후의 아티클 스크랩을 조회할 수 있습니다. 첫 페이지는 cursor 없이 요청하고, keyword가 있으면 검색합니다.")
+    @GetMapping("/v1/scraps/articles/cursor")
+    public ApiResponse<GetCursorSliceResponse<GetArticleResponse>> getArticlesByCursor(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(articleService.getArticlesByCursor(email, keyword, cursor, size));
+    }
 }
@@ -1,16 +1,28 @@
 package com.forever.dadamda.controller.scrap;
 
 import com.forever.dadamda.dto.ApiResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
+import com.forever.dadamda.dto.scrap.place.GetNearbyPlaceResponse;
+import com.forever.dadamda.dto.scrap.place.GetPlaceClusterResponse;
 import com.forever.dadamda.dto.scrap.place.GetPlaceResponse;
 import com.forever.dadamda.service.scrap.PlaceService;
 import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Validated
 @RequiredArgsConstructor
 @RestController
 public class PlaceController {
@@ -26,4 +38,69 @@ public class PlaceController {
 
         return ApiResponse.success(placeService.getPlaces(email, pageable));
     }
+
+    @Operation(summary = "장소 커서 조회", description = "cursor 이후의 장소를 조회할 수 있습니다. 첫 페이지는 cursor 없이 요청하고, keyword가 있으면 검색합니다.")
+    @GetMapping("/v1/scraps/places/cursor")
+    public ApiResponse<GetCursorSliceResponse<GetPlaceResponse>> getPlacesByCursor(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(placeService.getPlacesByCursor(email, keyword, cursor, size));
+    }
+
+    @Operation(summary = "주변 장소 조회", description = "기준 위치에서 radius(미터) 안에 있는 장소를 가까운 순서로 조회할 수 있습니다.")
+    @GetMapping("/v1/scraps/places/nearby")
+    public ApiResponse<List<GetNearbyPlaceResponse>> getNearbyPlaces(
+            @RequestParam("latitude") @DecimalMin("-90") @DecimalMax("90") double latitude,
+            @RequestParam("longitude") @DecimalMin("-180") @DecimalMax("180") double longitude,
+            @RequestParam(value = "radius", defaultValue = "1000") @Positive @DecimalMax("50000")
+            double radius,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(placeService.getNearbyPlaces(email, latitude, longitude,
+                radius, size));
+    }
+
+    @Operation(summary = "영역 안 장소 조회", description = "위도, 경도 범위 안에 있는 장소를 범위 가운데에서 가까운 순서로 조회할 수 있습니다.")
+    @GetMapping("/v1/scraps/places/bounds")
+    public ApiResponse<List<GetNearbyPlaceResponse>> getPlacesInBounds(
+            @RequestParam("minLatitude") @DecimalMin("-90") @DecimalMax("90") double minLatitude,
+            @RequestParam("minLongitude") @DecimalMin("-180") @DecimalMax("180")
+            double minLongitude,
+            @RequestParam("maxLatitude") @DecimalMin("-90") @DecimalMax("90") double maxLatitude,
+            @RequestParam("maxLongitude") @DecimalMin("-180") @DecimalMax("180")
+            double maxLongitude,
+            @RequestParam(value = "size", defaultValue = "100") @Positive @Max(100) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(placeService.getPlacesInBounds(email, minLatitude,
+                minLongitude, maxLatitude, maxLongitude, size));
+    }
+
+    @Operation(summary = "장소 지도 클러스터 조회", description = "위도, 경도 범위 안의 장소를 줌 레벨에 맞는 geohash 셀로 묶어서 셀마다 장소 개수와 중심 좌표를 조회할 수 있습니다.")
+    @GetMapping("/v1/scraps/places/clusters")
+    public ApiResponse<List<GetPlaceClusterResponse>> getPlaceClusters(
+            @RequestParam("minLatitude") @DecimalMin("-90") @DecimalMax("90") double minLatitude,
+            @RequestParam("minLongitude") @DecimalMin("-180") @DecimalMax("180")
+            double minLongitude,
+            @RequestParam("maxLatitude") @DecimalMin("-90") @DecimalMax("90") double maxLatitude,
+            @RequestParam("maxLongitude") @DecimalMin("-180") @DecimalMax("180")
+            double maxLongitude,
+            @RequestParam("zoom") @PositiveOrZero @Max(22) int zoom,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(placeService.getPlaceClusters(email, minLatitude,
+                minLongitude, maxLatitude, maxLongitude, zoom));
+    }
 }
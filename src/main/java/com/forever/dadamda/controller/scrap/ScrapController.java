@@ -1,24 +1,40 @@
 package com.forever.dadamda.controller.scrap;
 
 import com.forever.dadamda.dto.ApiResponse;
+import com.forever.dadamda.dto.scrap.CreateScrapAsyncResponse;
+import com.forever.dadamda.dto.scrap.CreateScrapBulkRequest;
+import com.forever.dadamda.dto.scrap.CreateScrapBulkResponse;
 import com.forever.dadamda.dto.scrap.CreateScrapRequest;
 import com.forever.dadamda.dto.scrap.CreateScrapResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.GetScrapCountResponse;
 import com.forever.dadamda.dto.scrap.GetScrapResponse;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
+import com.forever.dadamda.service.scrap.ScrapBulkService;
+import com.forever.dadamda.service.scrap.ScrapExportService;
 import com.forever.dadamda.service.scrap.ScrapService;
 import io.swagger.v3.oas.annotations.Operation;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 import org.springframework.data.domain.Pageable;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import net.minidev.json.parser.ParseException;
 import org.springframework.data.domain.Slice;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 @Validated
 @RequiredArgsConstructor
@@ -26,6 +42,8 @@ import org.springframework.web.bind.annotation.*;
 public class ScrapController {
 
     private final ScrapService scrapService;
+    private final ScrapBulkService scrapBulkService;
+    private final ScrapExportService scrapExportService;
 
     @Operation(summary = "스크랩 추가", description = "'크롬 익스텐션'과 '+ 버튼'을 통해서 스크랩을 추가할 수 있습니다.")
     @PostMapping("/v1/scraps")
@@ -40,6 +58,30 @@ public class ScrapController {
         return ApiResponse.success(createScrapResponse);
     }
 
+    @Operation(summary = "스크랩 비동기 추가", description = "스크랩을 먼저 저장하고 202를 반환합니다. 크롤링이 끝나면 알맞은 타입의 스크랩으로 변경됩니다.")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/v1/scraps/async")
+    public ApiResponse<CreateScrapAsyncResponse> addScrapsAsync(
+            @Valid @RequestBody CreateScrapRequest createScrapRequest,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(scrapService.createScrapsAsync(email,
+                createScrapRequest.getPageUrl()));
+    }
+
+    @Operation(summary = "스크랩 일괄 추가", description = "여러개의 URL을 한번에 스크랩합니다. URL별 처리 결과(CREATED, DUPLICATED, FAILED)를 NDJSON으로 스트리밍합니다.")
+    @PostMapping(value = "/v1/scraps/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CreateScrapBulkResponse> addScrapsBulk(
+            @Valid @RequestBody CreateScrapBulkRequest createScrapBulkRequest,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return scrapBulkService.createScrapsBulk(email, createScrapBulkRequest.getPageUrls());
+    }
+
     @Operation(summary = "스크랩 삭제", description = "한개의 스크랩을 삭제할 수 있습니다.")
     @DeleteMapping("/v1/scraps/{scrapId}")
     public ApiResponse<String> deleteScraps(@PathVariable("scrapId") @NotNull @Positive Long scrapId,
@@ -91,4 +133,37 @@ public class ScrapController {
 
         return ApiResponse.success(scrapService.searchScraps(email, keyword, pageable));
     }
+
+    @Operation(summary = "스크랩 커서 조회", description = "cursor 이후의 스크랩을 조회할 수 있습니다. 첫 페이지는 cursor 없이 요청하고, keyword가 있으면 검색합니다.")
+    @GetMapping("/v1/scraps/cursor")
+    public ApiResponse<GetCursorSliceResponse<GetScrapResponse>> getScrapsByCursor(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(scrapService.getScrapsByCursor(email, keyword, cursor, size));
+    }
+
+    @Operation(summary = "스크랩 내보내기", description = "전체 스크랩을 메모와 함께 NDJSON(format=ndjson) 또는 CSV(format=csv) 파일로 내보낼 수 있습니다.")
+    @GetMapping("/v1/scraps/export")
+    public ResponseEntity<StreamingResponseBody> exportScraps(
+            @RequestParam(value = "format", defaultValue = ScrapExportService.NDJSON)
+            @Pattern(regexp = ScrapExportService.NDJSON + "|" + ScrapExportService.CSV) String format,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        MediaType mediaType = ScrapExportService.CSV.equals(format)
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("scraps." + format).build().toString())
+                .body(scrapExportService.exportScraps(email, format));
+    }
 }
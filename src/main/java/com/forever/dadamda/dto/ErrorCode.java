@@ -14,6 +14,8 @@ public enum ErrorCode {
     INVALID_DUPLICATED_NICKNAME("BR003", "이미 사용중인 닉네임입니다."),
     INVALID_HEART("BR004", "좋아요를 누르지 않은 글입니다."),
     INVALID_AUTHENTICATION_TO_PUBLISH("BR005", "게시 권한이 없습니다."),
+    INVALID_CURSOR("BR006", "잘못된 커서입니다."),
+    INVALID_IMAGE("BR007", "지원하지 않거나 너무 큰 이미지입니다."),
 
     /**
      * 404 Not Found (존재하지 않는 리소스)
@@ -29,6 +31,11 @@ public enum ErrorCode {
      * 500 Internal Server Exception (서버 내부 에러)
      */
     INTERNAL_SERVER("IS000", "서버 내부 에러가 발생했습니다."),
+
+    /**
+     * 503 Service Unavailable (요청이 많아서 처리할 수 없음)
+     */
+    SERVICE_UNAVAILABLE("SU000", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final String code;
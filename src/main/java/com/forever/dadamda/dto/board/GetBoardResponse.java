@@ -1,15 +1,17 @@
 package com.forever.dadamda.dto.board;
 
-import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.board.TAG;
 import com.forever.dadamda.service.TimeService;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetBoardResponse {
 
     private Long boardId;
@@ -21,16 +23,12 @@ public class GetBoardResponse {
     private String thumbnailUrl;
     private String contents;
 
-    public static GetBoardResponse of(Board board) {
-        return GetBoardResponse.builder()
-                .boardId(board.getId())
-                .title(board.getTitle())
-                .isFixed(board.getFixedDate())
-                .uuid(board.getUuid())
-                .tag(board.getTag())
-                .modifiedDate(TimeService.fromLocalDateTime(board.getModifiedDate()))
-                .thumbnailUrl(board.getThumbnailUrl())
-                .contents(board.getContents())
-                .build();
+    /**
+     * 보드 목록 조회 프로젝션(Projections.constructor)용 생성자
+     */
+    public GetBoardResponse(Long boardId, String title, LocalDateTime fixedDate, UUID uuid,
+            TAG tag, LocalDateTime modifiedDate, String thumbnailUrl, String contents) {
+        this(boardId, title, fixedDate, uuid, tag, TimeService.fromLocalDateTime(modifiedDate),
+                thumbnailUrl, contents);
     }
 }
@@ -0,0 +1,16 @@
+package com.forever.dadamda.dto.counter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자별 타입(d_type)별 스크랩, 보드 개수 (GROUP BY 조회 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class UserItemCount {
+
+    private Long userId;
+    private String dType;
+    private Long itemCount;
+}
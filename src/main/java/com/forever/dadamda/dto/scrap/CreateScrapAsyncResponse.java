@@ -0,0 +1,12 @@
+package com.forever.dadamda.dto.scrap;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CreateScrapAsyncResponse {
+
+    private Long scrapId;
+    private String pageUrl;
+}
@@ -0,0 +1,24 @@
+package com.forever.dadamda.dto.scrap;
+
+import java.util.List;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.URL;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CreateScrapBulkRequest {
+
+    @NotEmpty(message = "url을 입력해주세요.")
+    @Size(max = 1000, message = "최대 1000개까지 입력할 수 있습니다.")
+    private List<
+            @NotBlank(message = "url을 입력해주세요.")
+            @URL(message = "URL 형식이 유효하지 않습니다.")
+            @Size(max = 2083, message = "최대 2083자까지 입력할 수 있습니다.") String> pageUrls;
+}
@@ -0,0 +1,31 @@
+package com.forever.dadamda.dto.scrap;
+
+import com.forever.dadamda.entity.scrap.Scrap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CreateScrapBulkResponse {
+
+    private String pageUrl;
+    private Long scrapId;
+    private Status status;
+
+    public enum Status {
+        CREATED, DUPLICATED, FAILED
+    }
+
+    public static CreateScrapBulkResponse created(Scrap scrap) {
+        return new CreateScrapBulkResponse(scrap.getPageUrl(), scrap.getId(), Status.CREATED);
+    }
+
+    public static CreateScrapBulkResponse duplicated(String pageUrl) {
+        return new CreateScrapBulkResponse(pageUrl, null, Status.DUPLICATED);
+    }
+
+    public static CreateScrapBulkResponse failed(String pageUrl) {
+        return new CreateScrapBulkResponse(pageUrl, null, Status.FAILED);
+    }
+}
@@ -0,0 +1,26 @@
+package com.forever.dadamda.dto.scrap;
+
+import com.forever.dadamda.dto.memo.GetMemoResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 스크랩 내보내기 한 줄 (메모를 포함한다)
+ */
+@Getter
+@Builder
+public class ExportScrapResponse {
+
+    private Long scrapId;
+    private String type;
+    private String pageUrl;
+    private String title;
+    private String description;
+    private String siteName;
+    private String thumbnailUrl;
+    private Long createdDate;
+    @Builder.Default
+    private List<GetMemoResponse> memos = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.forever.dadamda.dto.scrap;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@AllArgsConstructor
+public class GetCursorSliceResponse<T> {
+
+    private List<T> content;
+    private int numberOfElements;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> GetCursorSliceResponse<T> of(Slice<T> slice, String nextCursor) {
+        return new GetCursorSliceResponse<>(slice.getContent(), slice.getNumberOfElements(),
+                slice.hasNext(), nextCursor);
+    }
+}
@@ -2,10 +2,6 @@ package com.forever.dadamda.dto.scrap;
 
 import com.forever.dadamda.dto.memo.GetMemoResponse;
 import com.forever.dadamda.entity.Memo;
-import com.forever.dadamda.entity.scrap.Article;
-import com.forever.dadamda.entity.scrap.Product;
-import com.forever.dadamda.entity.scrap.Scrap;
-import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.service.TimeService;
 import com.forever.dadamda.service.scrap.VideoService;
 import java.util.List;
@@ -48,38 +44,42 @@ public class GetScrapResponse {
     private String playTime;
     private String watchedCnt;
 
-    public static GetScrapResponse of(Scrap scrap, List<Memo> memoList) {
+    public static GetScrapResponse of(ScrapListRow scrapListRow, List<Memo> memoList) {
         GetScrapResponseBuilder getScrapResponse = new GetScrapResponseBuilder()
                 .dType("other")
-                .scrapId(scrap.getId())
-                .description(scrap.getDescription())
-                .pageUrl(scrap.getPageUrl())
-                .siteName(scrap.getSiteName())
-                .thumbnailUrl(scrap.getThumbnailUrl())
-                .title(scrap.getTitle())
+                .scrapId(scrapListRow.getScrapId())
+                .description(scrapListRow.getDescription())
+                .pageUrl(scrapListRow.getPageUrl())
+                .siteName(scrapListRow.getSiteName())
+                .thumbnailUrl(scrapListRow.getThumbnailUrl())
+                .title(scrapListRow.getTitle())
                 .memoList(memoList.stream().map(GetMemoResponse::of)
                         .collect(Collectors.toList()));
 
-        if (scrap instanceof Article) {
-            Article article = (Article) scrap;
-            getScrapResponse.dType("article")
-                    .author(article.getAuthor())
-                    .authorImageUrl(article.getAuthorImageUrl())
-                    .blogName(article.getBlogName())
-                    .publishedDate(TimeService.fromLocalDateTime(article.getPublishedDate()));
-        } else if (scrap instanceof Video) {
-            Video video = (Video) scrap;
-            getScrapResponse.dType("video")
-                    .embedUrl(video.getEmbedUrl())
-                    .channelImageUrl(video.getChannelImageUrl())
-                    .channelName(video.getChannelName())
-                    .playTime(VideoService.formatPlayTime(video.getPlayTime()))
-                    .watchedCnt(VideoService.formatViewCount(video.getWatchedCnt()))
-                    .publishedDate(TimeService.fromLocalDateTime(video.getPublishedDate()));
-        } else if (scrap instanceof Product) {
-            Product product = (Product) scrap;
-            getScrapResponse.dType("product")
-                    .price(product.getPrice());
+        String dType = scrapListRow.getDType() == null ? "" : scrapListRow.getDType();
+        switch (dType) {
+            case "Article":
+                getScrapResponse.dType("article")
+                        .author(scrapListRow.getAuthor())
+                        .authorImageUrl(scrapListRow.getAuthorImageUrl())
+                        .blogName(scrapListRow.getBlogName())
+                        .publishedDate(
+                                TimeService.fromLocalDateTime(scrapListRow.getPublishedDate()));
+                break;
+            case "Video":
+                getScrapResponse.dType("video")
+                        .embedUrl(scrapListRow.getEmbedUrl())
+                        .channelImageUrl(scrapListRow.getChannelImageUrl())
+                        .channelName(scrapListRow.getChannelName())
+                        .playTime(VideoService.formatPlayTime(scrapListRow.getPlayTime()))
+                        .watchedCnt(VideoService.formatViewCount(scrapListRow.getWatchedCnt()))
+                        .publishedDate(
+                                TimeService.fromLocalDateTime(scrapListRow.getPublishedDate()));
+                break;
+            case "Product":
+                getScrapResponse.dType("product")
+                        .price(scrapListRow.getPrice());
+                break;
         }
 
         return getScrapResponse.build();
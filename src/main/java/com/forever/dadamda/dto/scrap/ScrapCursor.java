@@ -0,0 +1,63 @@
+package com.forever.dadamda.dto.scrap;
+
+import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.exception.InvalidException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 스크랩 목록 커서 (마지막으로 조회한 스크랩의 createdDate, scrapId)
+ * 클라이언트에는 Base64로 인코딩한 문자열로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScrapCursor {
+
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createdDate;
+    private Long scrapId;
+
+    /**
+     * 커서가 없으면 첫 페이지이므로 null을 반환한다.
+     */
+    public static ScrapCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+
+            return new ScrapCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static String encode(ScrapListRow scrapListRow) {
+        String raw = scrapListRow.getCreatedDate() + DELIMITER + scrapListRow.getScrapId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다음 페이지가 있으면 마지막 스크랩의 커서를, 없으면 null을 반환한다.
+     */
+    public static String next(Slice<ScrapListRow> scrapSlice) {
+        List<ScrapListRow> contents = scrapSlice.getContent();
+        if (!scrapSlice.hasNext() || contents.isEmpty()) {
+            return null;
+        }
+        return encode(contents.get(contents.size() - 1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.forever.dadamda.dto.scrap;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스크랩 목록 조회 프로젝션 (엔티티를 만들지 않고 목록 응답에 필요한 컬럼만 조회한다)
+ */
+@Getter
+@AllArgsConstructor
+public class ScrapListRow {
+
+    // 공통 부분
+    private Long scrapId;
+    private String dType;
+    private String description;
+    private String pageUrl;
+    private String siteName;
+    private String thumbnailUrl;
+    private String title;
+    private LocalDateTime publishedDate;
+    private LocalDateTime createdDate;
+
+    // Article 부분
+    private String author;
+    private String authorImageUrl;
+    private String blogName;
+
+    // Product 부분
+    private String price;
+
+    // Video 부분
+    private String channelImageUrl;
+    private String channelName;
+    private String embedUrl;
+    private Long playTime;
+    private Long watchedCnt;
+
+    // Place 부분
+    private String address;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private String phoneNumber;
+    private String zipCode;
+    private String homepageUrl;
+    private String category;
+
+    /**
+     * 장소 조회용 (장소 컬럼만 조회한다)
+     */
+    public ScrapListRow(Long scrapId, String description, String pageUrl, String siteName,
+            String thumbnailUrl, String title, LocalDateTime createdDate, String address,
+            BigDecimal latitude, BigDecimal longitude, String phoneNumber, String zipCode,
+            String homepageUrl, String category) {
+        this.scrapId = scrapId;
+        this.dType = "Place";
+        this.description = description;
+        this.pageUrl = pageUrl;
+        this.siteName = siteName;
+        this.thumbnailUrl = thumbnailUrl;
+        this.title = title;
+        this.createdDate = createdDate;
+        this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.phoneNumber = phoneNumber;
+        this.zipCode = zipCode;
+        this.homepageUrl = homepageUrl;
+        this.category = category;
+    }
+}
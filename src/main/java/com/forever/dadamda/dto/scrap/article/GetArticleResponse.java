@@ -1,8 +1,8 @@
 package com.forever.dadamda.dto.scrap.article;
 
 import com.forever.dadamda.dto.memo.GetMemoResponse;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
 import com.forever.dadamda.entity.Memo;
-import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.service.TimeService;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,19 +34,19 @@ public class GetArticleResponse {
     private String blogName;
     private Long publishedDate;
 
-    public static GetArticleResponse of(Article article, List<Memo> memoList) {
+    public static GetArticleResponse of(ScrapListRow scrapListRow, List<Memo> memoList) {
         return new GetArticleResponseBuilder()
                 .dType("article")
-                .scrapId(article.getId())
-                .description(article.getDescription())
-                .pageUrl(article.getPageUrl())
-                .siteName(article.getSiteName())
-                .thumbnailUrl(article.getThumbnailUrl())
-                .title(article.getTitle())
-                .author(article.getAuthor())
-                .authorImageUrl(article.getAuthorImageUrl())
-                .blogName(article.getBlogName())
-                .publishedDate(TimeService.fromLocalDateTime(article.getPublishedDate()))
+                .scrapId(scrapListRow.getScrapId())
+                .description(scrapListRow.getDescription())
+                .pageUrl(scrapListRow.getPageUrl())
+                .siteName(scrapListRow.getSiteName())
+                .thumbnailUrl(scrapListRow.getThumbnailUrl())
+                .title(scrapListRow.getTitle())
+                .author(scrapListRow.getAuthor())
+                .authorImageUrl(scrapListRow.getAuthorImageUrl())
+                .blogName(scrapListRow.getBlogName())
+                .publishedDate(TimeService.fromLocalDateTime(scrapListRow.getPublishedDate()))
                 .memoList(memoList.stream().map(GetMemoResponse::of).collect(Collectors.toList()))
                 .build();
     }
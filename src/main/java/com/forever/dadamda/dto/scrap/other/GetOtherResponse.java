@@ -1,8 +1,8 @@
 package com.forever.dadamda.dto.scrap.other;
 
 import com.forever.dadamda.dto.memo.GetMemoResponse;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
 import com.forever.dadamda.entity.Memo;
-import com.forever.dadamda.entity.scrap.Other;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
@@ -27,15 +27,15 @@ public class GetOtherResponse {
     private String title;
     private List<GetMemoResponse> memoList;
 
-    public static GetOtherResponse of(Other other, List<Memo> memoList) {
+    public static GetOtherResponse of(ScrapListRow scrapListRow, List<Memo> memoList) {
         return new GetOtherResponseBuilder()
-                .scrapId(other.getId())
+                .scrapId(scrapListRow.getScrapId())
                 .dType("other")
-                .description(other.getDescription())
-                .pageUrl(other.getPageUrl())
-                .siteName(other.getSiteName())
-                .thumbnailUrl(other.getThumbnailUrl())
-                .title(other.getTitle())
+                .description(scrapListRow.getDescription())
+                .pageUrl(scrapListRow.getPageUrl())
+                .siteName(scrapListRow.getSiteName())
+                .thumbnailUrl(scrapListRow.getThumbnailUrl())
+                .title(scrapListRow.getTitle())
                 .memoList(memoList.stream().map(GetMemoResponse::of).collect(
                         Collectors.toList()))
                 .build();
@@ -0,0 +1,16 @@
+package com.forever.dadamda.dto.scrap.place;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class GetNearbyPlaceResponse {
+
+    @JsonUnwrapped
+    private GetPlaceResponse place;
+
+    // 기준 지점으로부터의 거리 (미터)
+    private Long distance;
+}
@@ -0,0 +1,27 @@
+package com.forever.dadamda.dto.scrap.place;
+
+import lombok.Getter;
+
+/**
+ * 지도 클러스터 조회 프로젝션 (geohash 셀 하나에 묶인 장소 개수와 중심 좌표)
+ */
+@Getter
+public class GetPlaceClusterResponse {
+
+    private String geohash;
+    private Long count;
+    private Double latitude;
+    private Double longitude;
+
+    // 셀에 장소가 하나뿐이면 그 장소의 스크랩 id (여러 개면 null)
+    private Long scrapId;
+
+    public GetPlaceClusterResponse(String geohash, Long count, Double latitude, Double longitude,
+            Long scrapId) {
+        this.geohash = geohash;
+        this.count = count;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.scrapId = count == 1 ? scrapId : null;
+    }
+}
@@ -1,8 +1,8 @@
 package com.forever.dadamda.dto.scrap.place;
 
 import com.forever.dadamda.dto.memo.GetMemoResponse;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
 import com.forever.dadamda.entity.Memo;
-import com.forever.dadamda.entity.scrap.Place;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,24 +37,24 @@ public class GetPlaceResponse {
     private String homepageUrl;
     private String category;
 
-    public static GetPlaceResponse of(Place place, List<Memo> memoList) {
+    public static GetPlaceResponse of(ScrapListRow scrapListRow, List<Memo> memoList) {
         return new GetPlaceResponseBuilder()
-                .scrapId(place.getId())
+                .scrapId(scrapListRow.getScrapId())
                 .dType("place")
-                .description(place.getDescription())
-                .pageUrl(place.getPageUrl())
-                .siteName(place.getSiteName())
-                .thumbnailUrl(place.getThumbnailUrl())
-                .title(place.getTitle())
+                .description(scrapListRow.getDescription())
+                .pageUrl(scrapListRow.getPageUrl())
+                .siteName(scrapListRow.getSiteName())
+                .thumbnailUrl(scrapListRow.getThumbnailUrl())
+                .title(scrapListRow.getTitle())
                 .memoList(memoList.stream().map(GetMemoResponse::of).collect(
                         Collectors.toList()))
-                .address(place.getAddress())
-                .latitude(place.getLatitude())
-                .longitude(place.getLongitude())
-                .phoneNumber(place.getPhoneNumber())
-                .zipCode(place.getZipCode())
-                .homepageUrl(place.getHomepageUrl())
-                .category(place.getCategory())
+                .address(scrapListRow.getAddress())
+                .latitude(scrapListRow.getLatitude())
+                .longitude(scrapListRow.getLongitude())
+                .phoneNumber(scrapListRow.getPhoneNumber())
+                .zipCode(scrapListRow.getZipCode())
+                .homepageUrl(scrapListRow.getHomepageUrl())
+                .category(scrapListRow.getCategory())
                 .build();
     }
 }
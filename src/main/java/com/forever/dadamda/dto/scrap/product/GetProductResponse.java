@@ -1,8 +1,8 @@
 package com.forever.dadamda.dto.scrap.product;
 
 import com.forever.dadamda.dto.memo.GetMemoResponse;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
 import com.forever.dadamda.entity.Memo;
-import com.forever.dadamda.entity.scrap.Product;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
@@ -30,16 +30,16 @@ public class GetProductResponse {
     // Product 부분
     private String price;
 
-    public static GetProductResponse of(Product product, List<Memo> memoList) {
+    public static GetProductResponse of(ScrapListRow scrapListRow, List<Memo> memoList) {
         return new GetProductResponseBuilder()
-                .scrapId(product.getId())
+                .scrapId(scrapListRow.getScrapId())
                 .dType("product")
-                .description(product.getDescription())
-                .pageUrl(product.getPageUrl())
-                .siteName(product.getSiteName())
-                .thumbnailUrl(product.getThumbnailUrl())
-                .title(product.getTitle())
-                .price(product.getPrice())
+                .description(scrapListRow.getDescription())
+                .pageUrl(scrapListRow.getPageUrl())
+                .siteName(scrapListRow.getSiteName())
+                .thumbnailUrl(scrapListRow.getThumbnailUrl())
+                .title(scrapListRow.getTitle())
+                .price(scrapListRow.getPrice())
                 .memoList(memoList.stream().map(GetMemoResponse::of).collect(
                         Collectors.toList()))
                 .build();
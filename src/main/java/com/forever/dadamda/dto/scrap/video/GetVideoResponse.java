@@ -1,8 +1,8 @@
 package com.forever.dadamda.dto.scrap.video;
 
 import com.forever.dadamda.dto.memo.GetMemoResponse;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
 import com.forever.dadamda.entity.Memo;
-import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.service.TimeService;
 import com.forever.dadamda.service.scrap.VideoService;
 import java.util.List;
@@ -37,23 +37,23 @@ public class GetVideoResponse {
     private String watchedCnt;
     private Long publishedDate;
 
-    public static GetVideoResponse of(Video video, List<Memo> memoList) {
+    public static GetVideoResponse of(ScrapListRow scrapListRow, List<Memo> memoList) {
         return new GetVideoResponseBuilder()
-                .scrapId(video.getId())
+                .scrapId(scrapListRow.getScrapId())
                 .dType("video")
-                .description(video.getDescription())
-                .pageUrl(video.getPageUrl())
-                .siteName(video.getSiteName())
-                .thumbnailUrl(video.getThumbnailUrl())
-                .title(video.getTitle())
-                .channelImageUrl(video.getChannelImageUrl())
-                .channelName(video.getChannelName())
-                .embedUrl(video.getEmbedUrl())
-                .playTime(VideoService.formatPlayTime(video.getPlayTime()))
-                .watchedCnt(VideoService.formatViewCount(video.getWatchedCnt()))
+                .description(scrapListRow.getDescription())
+                .pageUrl(scrapListRow.getPageUrl())
+                .siteName(scrapListRow.getSiteName())
+                .thumbnailUrl(scrapListRow.getThumbnailUrl())
+                .title(scrapListRow.getTitle())
+                .channelImageUrl(scrapListRow.getChannelImageUrl())
+                .channelName(scrapListRow.getChannelName())
+                .embedUrl(scrapListRow.getEmbedUrl())
+                .playTime(VideoService.formatPlayTime(scrapListRow.getPlayTime()))
+                .watchedCnt(VideoService.formatViewCount(scrapListRow.getWatchedCnt()))
                 .memoList(memoList.stream().map(GetMemoResponse::of).collect(
                         Collectors.toList()))
-                .publishedDate(TimeService.fromLocalDateTime(video.getPublishedDate()))
+                .publishedDate(TimeService.fromLocalDateTime(scrapListRow.getPublishedDate()))
                 .build();
     }
 }
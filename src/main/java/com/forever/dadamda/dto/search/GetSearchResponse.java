@@ -0,0 +1,28 @@
+package com.forever.dadamda.dto.search;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetSearchResponse {
+
+    // scrap, memo, board
+    private String type;
+    private Long id;
+
+    // 메모가 달린 스크랩 (type이 memo일 때)
+    private Long scrapId;
+
+    // 보드 UUID (type이 board일 때)
+    private String boardUuid;
+
+    private String title;
+    private String text;
+    private float score;
+}
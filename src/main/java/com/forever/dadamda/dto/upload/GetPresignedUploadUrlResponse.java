@@ -0,0 +1,19 @@
+package com.forever.dadamda.dto.upload;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * S3에 이미지를 직접 올릴 presigned PUT URL
+ * 업로드할 때 Content-Type 헤더를 contentType과 같게 보내야 서명이 맞고, 확인 API에 uploadKey를 같이 보내야 한다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class GetPresignedUploadUrlResponse {
+
+    private String uploadUrl;
+    private String uploadKey;
+    private String contentType;
+    private LocalDateTime expiredDate;
+}
@@ -1,6 +1,8 @@
 package com.forever.dadamda.dto.user;
 
 import com.forever.dadamda.entity.user.Provider;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.service.TimeService;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,4 +16,11 @@ public class GetUserInfoResponse {
     private String profileUrl;
     private String nickname;
     private Long createdAt;
+
+    public static GetUserInfoResponse of(User user) {
+        return GetUserInfoResponse.builder().name(user.getName()).email(user.getEmail())
+                .profileUrl(user.getProfileUrl()).provider(user.getProvider())
+                .nickname(user.getNickname())
+                .createdAt(TimeService.fromLocalDateTime(user.getCreatedDate())).build();
+    }
 }
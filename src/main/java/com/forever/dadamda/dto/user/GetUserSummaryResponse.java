@@ -0,0 +1,41 @@
+package com.forever.dadamda.dto.user;
+
+import com.forever.dadamda.service.counter.UserCounterService;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 첫 화면에 필요한 회원 정보와 타입별 스크랩 개수, 보드 개수
+ */
+@Getter
+@Builder
+public class GetUserSummaryResponse {
+
+    private GetUserInfoResponse user;
+    private Long scrapCount;
+    private Long videoCount;
+    private Long articleCount;
+    private Long productCount;
+    private Long placeCount;
+    private Long otherCount;
+    private Long boardCount;
+
+    public static GetUserSummaryResponse of(GetUserInfoResponse user,
+            Map<String, Long> itemCounts) {
+        long scrapCount = UserCounterService.SCRAP_TYPES.stream()
+                .mapToLong(dType -> itemCounts.getOrDefault(dType, 0L))
+                .sum();
+
+        return GetUserSummaryResponse.builder()
+                .user(user)
+                .scrapCount(scrapCount)
+                .videoCount(itemCounts.getOrDefault("Video", 0L))
+                .articleCount(itemCounts.getOrDefault("Article", 0L))
+                .productCount(itemCounts.getOrDefault("Product", 0L))
+                .placeCount(itemCounts.getOrDefault("Place", 0L))
+                .otherCount(itemCounts.getOrDefault("Other", 0L))
+                .boardCount(itemCounts.getOrDefault(UserCounterService.BOARD, 0L))
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.forever.dadamda.entity.counter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 타입(d_type)별 스크랩, 보드 개수
+ * 스크랩, 보드를 추가/삭제할 때 같은 트랜잭션에서 갱신해서 개수 조회 시 COUNT 쿼리를 하지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "user_counter", uniqueConstraints = @UniqueConstraint(
+        name = "uk_user_counter_user_d_type", columnNames = {"user_id", "d_type"}))
+public class UserCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_counter_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "d_type", length = 31, nullable = false)
+    private String dType;
+
+    @Column(nullable = false)
+    private Long itemCount;
+
+    public UserCounter(Long userId, String dType, Long itemCount) {
+        this.userId = userId;
+        this.dType = dType;
+        this.itemCount = itemCount;
+    }
+}
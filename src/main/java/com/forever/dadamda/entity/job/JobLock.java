@@ -0,0 +1,33 @@
+package com.forever.dadamda.entity.job;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 서버에서 같은 배치 작업이 겹쳐 실행되지 않도록 하는 임대(lease) 방식의 잠금
+ * checkpoint에 작업 진행 위치를 저장해서, 잠금을 가진 서버가 죽어도 다음 서버가 이어서 실행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+public class JobLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 100)
+    private String lockedBy;
+
+    private Long checkpoint;
+
+    public JobLock(String name) {
+        this.name = name;
+    }
+}
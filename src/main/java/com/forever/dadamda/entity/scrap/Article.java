@@ -42,4 +42,12 @@ public class Article extends Scrap {
         this.author = author;
         this.blogName = blogName;
     }
+
+    public void updateArticleInfo(String author, String authorImageUrl, String blogName,
+            LocalDateTime publishedDate) {
+        this.author = author;
+        this.authorImageUrl = authorImageUrl;
+        this.blogName = blogName;
+        this.publishedDate = publishedDate;
+    }
 }
\ No newline at end of file
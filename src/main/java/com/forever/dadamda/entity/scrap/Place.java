@@ -1,6 +1,7 @@
 package com.forever.dadamda.entity.scrap;
 
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.util.GeohashUtils;
 import java.math.BigDecimal;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -23,6 +24,10 @@ public class Place extends Scrap {
     @Column(precision = 17, scale = 14)
     private BigDecimal longitude;
 
+    // 주변 장소 조회용 (위도, 경도가 바뀌면 같이 바뀐다)
+    @Column(length = GeohashUtils.PRECISION)
+    private String geohash;
+
     @Column(length = 30)
     private String phoneNumber;
 
@@ -43,9 +48,26 @@ public class Place extends Scrap {
         this.address = address;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.geohash = GeohashUtils.encode(latitude, longitude);
+        this.phoneNumber = phoneNumber;
+        this.zipCode = zipCode;
+        this.homepageUrl = homepageUrl;
+        this.category = category;
+    }
+
+    public void updatePlaceInfo(String address, BigDecimal latitude, BigDecimal longitude,
+            String phoneNumber, String zipCode, String homepageUrl, String category) {
+        this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geohash = GeohashUtils.encode(latitude, longitude);
         this.phoneNumber = phoneNumber;
         this.zipCode = zipCode;
         this.homepageUrl = homepageUrl;
         this.category = category;
     }
+
+    public void updateGeohash(String geohash) {
+        this.geohash = geohash;
+    }
 }
@@ -3,6 +3,8 @@ package com.forever.dadamda.entity.scrap;
 import com.forever.dadamda.entity.BaseTimeEntity;
 import com.forever.dadamda.entity.Memo;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.util.UrlUtils;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.Column;
@@ -10,16 +12,21 @@ import javax.persistence.DiscriminatorColumn;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @Getter
@@ -27,10 +34,27 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @AllArgsConstructor(access = AccessLevel.PUBLIC)
 @DiscriminatorColumn(name = "d_type")
+@Table(indexes = {
+        @Index(name = "idx_scrap_user_url_hash", columnList = "user_id, url_hash, deleted_date"),
+        @Index(name = "idx_scrap_user_deleted_created",
+                columnList = "user_id, deleted_date, created_date, scrap_id"),
+        @Index(name = "idx_scrap_user_geohash", columnList = "user_id, geohash"),
+        @Index(name = "idx_scrap_modified", columnList = "modified_date, scrap_id")
+})
 public class Scrap extends BaseTimeEntity {
 
+    // id를 100개씩 미리 받아서 insert마다 id 조회를 하지 않는다. (기존 hibernate_sequence 테이블을 그대로 쓴다)
+    // MySQL에는 시퀀스가 없어서 다른 엔티티도 같은 hibernate_sequence(next_val) 행에서 id를 받으므로 따로 옮길 것은 없다.
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scrap_id_generator")
+    @GenericGenerator(name = "scrap_id_generator",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "hibernate_sequence"),
+                    @Parameter(name = "force_table_use", value = "true"),
+                    @Parameter(name = "increment_size", value = "100"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
     @Column(name = "scrap_id")
     private Long id;
 
@@ -44,6 +68,18 @@ public class Scrap extends BaseTimeEntity {
     @Column(length = 2083, nullable = false)
     private String pageUrl;
 
+    @Column(length = 64)
+    private String urlHash;
+
+    // 목록 조회 프로젝션에서 타입을 구분하기 위한 읽기 전용 구분 컬럼
+    @Column(name = "d_type", insertable = false, updatable = false)
+    private String dType;
+
+    private LocalDateTime crawledDate;
+
+    // 사용자가 제목, 설명, 사이트 이름을 직접 수정한 시간 (크롤링 결과로 덮어쓰지 않는다)
+    private LocalDateTime editedDate;
+
     @Column(length = 200)
     private String title;
 
@@ -59,12 +95,14 @@ public class Scrap extends BaseTimeEntity {
     public Scrap(User user, String pageUrl) {
         this.user = user;
         this.pageUrl = pageUrl;
+        this.urlHash = UrlUtils.hash(pageUrl);
     }
 
     public Scrap(User user, String pageUrl, String title, String thumbnailUrl, String description,
             String siteName) {
         this.user = user;
         this.pageUrl = pageUrl;
+        this.urlHash = UrlUtils.hash(pageUrl);
         this.title = title;
         this.thumbnailUrl = thumbnailUrl;
         this.description = description;
@@ -75,5 +113,31 @@ public class Scrap extends BaseTimeEntity {
         this.title = title;
         this.description = description;
         this.siteName = siteName;
+        this.editedDate = LocalDateTime.now();
+    }
+
+    public void updateRecrawlingInfo(String thumbnailUrl, LocalDateTime crawledDate) {
+        if (thumbnailUrl != null) {
+            this.thumbnailUrl = thumbnailUrl;
+        }
+        this.crawledDate = crawledDate;
+    }
+
+    public void updateUrlHash(String urlHash) {
+        this.urlHash = urlHash;
+    }
+
+    /**
+     * 크롤링 결과를 반영한다. 임시 스크랩을 크롤링하기 전에 사용자가 수정했으면 수정한 항목은 그대로 둔다.
+     */
+    public void updateCrawlingInfo(String title, String thumbnailUrl, String description,
+            String siteName) {
+        this.thumbnailUrl = thumbnailUrl;
+        if (editedDate != null) {
+            return;
+        }
+        this.title = title;
+        this.description = description;
+        this.siteName = siteName;
     }
 }
@@ -49,4 +49,20 @@ public class Video extends Scrap {
     public void updateVideo(String channelName) {
         this.channelName = channelName;
     }
+
+    public void updateWatchedCnt(Long watchedCnt) {
+        if (watchedCnt != null) {
+            this.watchedCnt = watchedCnt;
+        }
+    }
+
+    public void updateVideoInfo(String embedUrl, String channelName, String channelImageUrl,
+            Long watchedCnt, Long playTime, LocalDateTime publishedDate) {
+        this.embedUrl = embedUrl;
+        this.channelName = channelName;
+        this.channelImageUrl = channelImageUrl;
+        this.watchedCnt = watchedCnt;
+        this.playTime = playTime;
+        this.publishedDate = publishedDate;
+    }
 }
@@ -0,0 +1,11 @@
+package com.forever.dadamda.exception;
+
+/**
+ * 크롤링 서버가 4xx로 응답한 경우 (크롤링할 수 없는 페이지이므로 서킷 브레이커 실패로 집계하지 않는다)
+ */
+public class CrawlingClientException extends RuntimeException {
+
+    public CrawlingClientException(String message) {
+        super(message);
+    }
+}
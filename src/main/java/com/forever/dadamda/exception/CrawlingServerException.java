@@ -0,0 +1,11 @@
+package com.forever.dadamda.exception;
+
+/**
+ * 크롤링 서버가 5xx로 응답한 경우 (서킷 브레이커 실패로 집계한다)
+ */
+public class CrawlingServerException extends RuntimeException {
+
+    public CrawlingServerException(String message) {
+        super(message);
+    }
+}
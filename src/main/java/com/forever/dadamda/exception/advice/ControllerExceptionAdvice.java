@@ -10,11 +10,13 @@ import io.sentry.Sentry;
 import javax.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 @RequiredArgsConstructor
 @RestControllerAdvice
@@ -57,6 +59,15 @@ public class ControllerExceptionAdvice {
         return ApiResponse.error(e.getErrorCode());
     }
 
+    /**
+     * 503 Service Unavailable (비동기 응답 스레드 풀이 가득 차거나 비동기 응답 시간이 지남)
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler({TaskRejectedException.class, AsyncRequestTimeoutException.class})
+    private ApiResponse<Object> handleServiceUnavailable(Exception e) {
+        return ApiResponse.error(ErrorCode.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * 500 Internal Server Exception (서버 내부 에러)
      */
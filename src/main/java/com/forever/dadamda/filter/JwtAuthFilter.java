@@ -1,6 +1,8 @@
 package com.forever.dadamda.filter;
 
 import com.forever.dadamda.service.TokenService;
+import com.forever.dadamda.service.user.UserCacheService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -20,6 +22,7 @@ import java.util.Arrays;
 public class JwtAuthFilter extends GenericFilterBean {
 
     private final TokenService tokenService;
+    private final UserCacheService userCacheService;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response,
@@ -28,8 +31,13 @@ public class JwtAuthFilter extends GenericFilterBean {
         try {
             String token = tokenService.resolveToken((HttpServletRequest) request);
 
-            if (token != null && tokenService.validateToken(token)) {
-                String email = tokenService.getEmail(token);
+            if (token != null) {
+                Claims claims = tokenService.verifyToken(token);
+                String email = claims.getSubject();
+
+                // 이 서버가 무효화 메시지를 놓쳤어도 토큰보다 오래된 회원 캐시는 쓰지 않는다.
+                userCacheService.evictIfOlderThan(email,
+                        claims.get(TokenService.USER_VERSION_CLAIM, Long.class));
 
                 Authentication auth = new UsernamePasswordAuthenticationToken(email, "",
                         Arrays.asList(new SimpleGrantedAuthority("ROLE_USER")));
@@ -0,0 +1,28 @@
+package com.forever.dadamda.repository;
+
+import com.forever.dadamda.entity.job.JobLock;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLock j SET j.lockedBy = :owner, j.lockedUntil = :lockedUntil "
+            + "WHERE j.name = :name AND (j.lockedUntil IS NULL OR j.lockedUntil < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+            @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLock j SET j.lockedUntil = :lockedUntil, j.checkpoint = :checkpoint "
+            + "WHERE j.name = :name AND j.lockedBy = :owner")
+    int renew(@Param("name") String name, @Param("owner") String owner,
+            @Param("lockedUntil") LocalDateTime lockedUntil, @Param("checkpoint") Long checkpoint);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLock j SET j.lockedUntil = NULL "
+            + "WHERE j.name = :name AND j.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -2,13 +2,46 @@ package com.forever.dadamda.repository;
 
 import com.forever.dadamda.entity.Memo;
 import com.forever.dadamda.entity.scrap.Scrap;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemoRepository extends JpaRepository<Memo, Long> {
 
     List<Memo> findMemosByScrapAndDeletedDateIsNull(Scrap scrap);
 
+    List<Memo> findAllByScrapIdInAndDeletedDateIsNull(Collection<Long> scrapIds);
+
+    /**
+     * 스크랩 엔티티 없이 scrapId 목록만으로 메모를 한번에 조회해서 scrapId별로 묶는다.
+     */
+    default Map<Long, List<Memo>> findMemosGroupedByScrapIds(Collection<Long> scrapIds) {
+        if (scrapIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return findAllByScrapIdInAndDeletedDateIsNull(scrapIds).stream()
+                .collect(Collectors.groupingBy(memo -> memo.getScrap().getId()));
+    }
+
+    @Query("SELECT m FROM Memo m JOIN FETCH m.scrap s JOIN FETCH s.user "
+            + "WHERE m.id > :lastMemoId AND m.deletedDate IS NULL AND s.deletedDate IS NULL "
+            + "ORDER BY m.id")
+    List<Memo> findMemosForIndexing(@Param("lastMemoId") Long lastMemoId, Pageable pageable);
+
+    @Query("SELECT m FROM Memo m JOIN FETCH m.scrap s JOIN FETCH s.user "
+            + "WHERE m.modifiedDate > :modifiedDate "
+            + "OR (m.modifiedDate = :modifiedDate AND m.id > :lastMemoId) "
+            + "ORDER BY m.modifiedDate, m.id")
+    List<Memo> findMemosModifiedAfter(@Param("modifiedDate") LocalDateTime modifiedDate,
+            @Param("lastMemoId") Long lastMemoId, Pageable pageable);
+
     Optional<Memo> findMemoByIdAndScrapAndDeletedDateIsNull(Long memoId, Scrap scrap);
 }
\ No newline at end of file
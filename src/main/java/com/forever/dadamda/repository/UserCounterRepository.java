@@ -0,0 +1,38 @@
+package com.forever.dadamda.repository;
+
+import com.forever.dadamda.entity.counter.UserCounter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserCounterRepository extends JpaRepository<UserCounter, Long> {
+
+    @Query("SELECT c FROM UserCounter c WHERE c.userId = :userId")
+    List<UserCounter> findAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c FROM UserCounter c WHERE c.userId = :userId AND c.dType = :dType")
+    Optional<UserCounter> findByUserIdAndDType(@Param("userId") Long userId,
+            @Param("dType") String dType);
+
+    @Query("SELECT c FROM UserCounter c WHERE c.userId IN :userIds")
+    List<UserCounter> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE UserCounter c SET c.itemCount = c.itemCount + :delta "
+            + "WHERE c.userId = :userId AND c.dType = :dType")
+    int addItemCount(@Param("userId") Long userId, @Param("dType") String dType,
+            @Param("delta") long delta);
+
+    /**
+     * 개수를 읽은 뒤 다른 트랜잭션이 개수를 바꿨으면 덮어쓰지 않는다. (바뀐 row는 다음 보정 때 다시 확인한다)
+     */
+    @Modifying
+    @Query("UPDATE UserCounter c SET c.itemCount = :itemCount "
+            + "WHERE c.id = :id AND c.itemCount = :expectedItemCount")
+    int compareAndSetItemCount(@Param("id") Long id,
+            @Param("expectedItemCount") long expectedItemCount, @Param("itemCount") long itemCount);
+}
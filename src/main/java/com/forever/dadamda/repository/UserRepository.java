@@ -1,7 +1,12 @@
 package com.forever.dadamda.repository;
 
 import com.forever.dadamda.entity.user.User;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +15,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailAndDeletedDateIsNull(String email);
 
     Boolean existsByNickname(String nickname);
+
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IN :nicknames")
+    List<String> findNicknamesIn(@Param("nicknames") Collection<String> nicknames);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastUserId ORDER BY u.id")
+    List<Long> findUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
 }
@@ -1,17 +1,29 @@
 package com.forever.dadamda.repository.board;
 
+import com.forever.dadamda.dto.counter.UserItemCount;
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.user.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
     Optional<Board> findByUserAndTitle(User user, String title);
 
     Optional<Board> findByUserAndIdAndDeletedDateIsNull(User user, Long boardId);
 
-    Long countByUserAndDeletedDateIsNull(User user);
+    long countByUserIdAndDeletedDateIsNull(Long userId);
+
+    @Query("SELECT new com.forever.dadamda.dto.counter.UserItemCount(b.user.id, 'Board', COUNT(b)) "
+            + "FROM Board b WHERE b.user.id IN :userIds AND b.deletedDate IS NULL "
+            + "GROUP BY b.user.id")
+    List<UserItemCount> countGroupByUserId(@Param("userIds") Collection<Long> userIds);
 
     Optional<Board> findByUserAndUuidAndDeletedDateIsNull(User user, UUID uuid);
 
@@ -20,4 +32,16 @@ public interface BoardRepository extends JpaRepository<Board, Long>, BoardReposi
     Optional<Board> findByUuidAndDeletedDateIsNullAndIsPublicIsTrue(UUID uuid);
 
     Optional<Board> findByUuidAndDeletedDateIsNull(UUID uuid);
+
+    @Query("SELECT b FROM Board b JOIN FETCH b.user "
+            + "WHERE b.id > :lastBoardId AND b.deletedDate IS NULL "
+            + "ORDER BY b.id")
+    List<Board> findBoardsForIndexing(@Param("lastBoardId") Long lastBoardId, Pageable pageable);
+
+    @Query("SELECT b FROM Board b JOIN FETCH b.user "
+            + "WHERE b.modifiedDate > :modifiedDate "
+            + "OR (b.modifiedDate = :modifiedDate AND b.id > :lastBoardId) "
+            + "ORDER BY b.modifiedDate, b.id")
+    List<Board> findBoardsModifiedAfter(@Param("modifiedDate") LocalDateTime modifiedDate,
+            @Param("lastBoardId") Long lastBoardId, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.forever.dadamda.repository.board;
 
+import com.forever.dadamda.dto.board.GetBoardResponse;
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.user.User;
 import java.time.LocalDateTime;
@@ -11,9 +12,9 @@ import org.springframework.data.domain.Slice;
 
 public interface BoardRepositoryCustom {
 
-    Slice<Board> getBoardsList(User user, Pageable pageable);
+    Slice<GetBoardResponse> getBoardsList(User user, Pageable pageable);
 
-    Slice<Board> searchKeywordInBoardList(User user, String keyword, Pageable pageable);
+    Slice<GetBoardResponse> searchKeywordInBoardList(User user, String keyword, Pageable pageable);
 
     Optional<Boolean> findIsSharedByBoardUUID(User user, UUID boardUUID);
 
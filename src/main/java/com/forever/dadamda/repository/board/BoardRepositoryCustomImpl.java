@@ -2,9 +2,12 @@ package com.forever.dadamda.repository.board;
 
 import static com.forever.dadamda.entity.board.QBoard.board;
 
+import com.forever.dadamda.dto.board.GetBoardResponse;
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.board.TAG;
 import com.forever.dadamda.entity.user.User;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,9 +23,13 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 목록 응답에 필요한 컬럼만 GetBoardResponse로 바로 조회한다. (엔티티 적재와 변경 감지 스냅샷이 없다)
+     */
     @Override
-    public Slice<Board> getBoardsList(User user, Pageable pageable) {
-        List<Board> contents = queryFactory.selectFrom(board)
+    public Slice<GetBoardResponse> getBoardsList(User user, Pageable pageable) {
+        List<GetBoardResponse> contents = queryFactory.select(boardResponse())
+                .from(board)
                 .where(
                         board.user.eq(user)
                                 .and(board.deletedDate.isNull())
@@ -36,8 +43,10 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
     }
 
     @Override
-    public Slice<Board> searchKeywordInBoardList(User user, String keyword, Pageable pageable) {
-        List<Board> contents = queryFactory.selectFrom(board)
+    public Slice<GetBoardResponse> searchKeywordInBoardList(User user, String keyword,
+            Pageable pageable) {
+        List<GetBoardResponse> contents = queryFactory.select(boardResponse())
+                .from(board)
                 .where(
                         board.user.eq(user)
                                 .and(board.deletedDate.isNull())
@@ -134,7 +143,19 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
         return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
     }
 
-    private boolean hasNextPage(List<Board> contents, int pageSize) {
+    private ConstructorExpression<GetBoardResponse> boardResponse() {
+        return Projections.constructor(GetBoardResponse.class,
+                board.id,
+                board.title,
+                board.fixedDate,
+                board.uuid,
+                board.tag,
+                board.modifiedDate,
+                board.thumbnailUrl,
+                board.contents);
+    }
+
+    private boolean hasNextPage(List<?> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
             return true;
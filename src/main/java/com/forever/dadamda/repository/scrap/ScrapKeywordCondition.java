@@ -0,0 +1,97 @@
+package com.forever.dadamda.repository.scrap;
+
+import com.forever.dadamda.config.MysqlFunctionContributor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import io.sentry.Sentry;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스크랩 키워드 검색 조건
+ * FULLTEXT(ngram) 인덱스가 준비되면 MATCH ... AGAINST로, 아니면(H2 테스트 등) LIKE '%keyword%'로 검색한다.
+ */
+@Component
+public class ScrapKeywordCondition {
+
+    static final String FULL_TEXT_INDEX_NAME = "ft_scrap_title_description";
+
+    // BOOLEAN MODE 연산자는 검색어에서 제거한다.
+    private static final Pattern BOOLEAN_MODE_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean fullTextEnabled;
+    private final int ngramTokenSize;
+
+    private volatile boolean fullTextReady = false;
+
+    public ScrapKeywordCondition(JdbcTemplate jdbcTemplate,
+            @Value("${scrap.search.full-text.enabled:false}") boolean fullTextEnabled,
+            @Value("${scrap.search.full-text.ngram-token-size:2}") int ngramTokenSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullTextEnabled = fullTextEnabled;
+        this.ngramTokenSize = ngramTokenSize;
+    }
+
+    /**
+     * scrap 테이블에 title, description FULLTEXT(ngram) 인덱스가 있는지 주기적으로 확인한다.
+     * 인덱스는 서버가 만들지 않는다. (운영 DB에 db/scrap-fulltext-index.sql을 한번 적용한다)
+     * 인덱스가 없거나 확인하지 못하면 LIKE 검색을 사용한다.
+     */
+    @Scheduled(fixedDelayString = "${scrap.search.full-text.check-delay-millis:300000}")
+    public void checkFullTextIndex() {
+        if (!fullTextEnabled) {
+            return;
+        }
+
+        try {
+            Integer indexCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'scrap' "
+                            + "AND index_name = ?", Integer.class, FULL_TEXT_INDEX_NAME);
+
+            fullTextReady = indexCount != null && indexCount > 0;
+        } catch (Exception e) {
+            fullTextReady = false;
+            Sentry.captureException(e);
+        }
+    }
+
+    /**
+     * title 또는 description에 keyword가 포함된 스크랩 조건 (keyword가 null이면 조건 없음)
+     */
+    public BooleanExpression matches(StringPath title, StringPath description, String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String fullTextKeyword = toFullTextKeyword(keyword);
+        if (!fullTextReady || !isSearchableByNgram(fullTextKeyword)) {
+            return title.containsIgnoreCase(keyword).or(description.containsIgnoreCase(keyword));
+        }
+
+        // 큰따옴표로 감싸서 LIKE 검색처럼 단어 순서까지 일치하는 구문으로 검색한다.
+        return Expressions.numberTemplate(Double.class,
+                        "function('" + MysqlFunctionContributor.MATCH_AGAINST + "', {0}, {1}, {2})",
+                        title, description, "\"" + fullTextKeyword + "\"")
+                .gt(0);
+    }
+
+    static String toFullTextKeyword(String keyword) {
+        return BOOLEAN_MODE_OPERATORS.matcher(keyword).replaceAll(" ").trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * ngram 토큰보다 짧은 단어는 FULLTEXT 인덱스로 찾을 수 없다.
+     */
+    private boolean isSearchableByNgram(String fullTextKeyword) {
+        return !fullTextKeyword.isEmpty() && Arrays.stream(fullTextKeyword.split(" "))
+                .allMatch(word -> word.length() >= ngramTokenSize);
+    }
+}
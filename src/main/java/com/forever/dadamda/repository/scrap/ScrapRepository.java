@@ -1,20 +1,65 @@
 package com.forever.dadamda.repository.scrap;
 
+import com.forever.dadamda.dto.counter.UserItemCount;
 import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.entity.user.User;
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 public interface ScrapRepository extends JpaRepository<Scrap, Long>, ScrapRepositoryCustom {
 
-    Optional<Scrap> findByPageUrlAndUserAndDeletedDateIsNull(String pageUrl, User user);
+    Optional<Scrap> findFirstByUserAndUrlHashAndDeletedDateIsNull(User user, String urlHash);
+
+    List<Scrap> findTop500ByUrlHashIsNull();
+
+    @Query("SELECT s.urlHash FROM Scrap s "
+            + "WHERE s.user = :user AND s.urlHash IN :urlHashes AND s.deletedDate IS NULL")
+    List<String> findUrlHashesByUserAndUrlHashIn(@Param("user") User user,
+            @Param("urlHashes") Collection<String> urlHashes);
+
+    @Query("SELECT s FROM Scrap s "
+            + "WHERE s.id < :lastScrapId AND s.deletedDate IS NULL "
+            + "AND COALESCE(s.crawledDate, s.createdDate) < :staleDate "
+            + "ORDER BY s.id DESC")
+    List<Scrap> findStaleScraps(@Param("lastScrapId") Long lastScrapId,
+            @Param("staleDate") LocalDateTime staleDate, Pageable pageable);
+
+    @Query("SELECT s FROM Scrap s JOIN FETCH s.user "
+            + "WHERE s.id > :lastScrapId AND s.deletedDate IS NULL "
+            + "ORDER BY s.id")
+    List<Scrap> findScrapsForIndexing(@Param("lastScrapId") Long lastScrapId, Pageable pageable);
+
+    // 삭제된 스크랩도 조회한다. (색인에서 지워야 한다)
+    @Query("SELECT s FROM Scrap s JOIN FETCH s.user "
+            + "WHERE s.modifiedDate > :modifiedDate "
+            + "OR (s.modifiedDate = :modifiedDate AND s.id > :lastScrapId) "
+            + "ORDER BY s.modifiedDate, s.id")
+    List<Scrap> findScrapsModifiedAfter(@Param("modifiedDate") LocalDateTime modifiedDate,
+            @Param("lastScrapId") Long lastScrapId, Pageable pageable);
 
     Optional<Scrap> findByIdAndUserAndDeletedDateIsNull(Long scrapId, User user);
 
     Optional<Slice<Scrap>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
-    Long countByUserAndDeletedDateIsNull(User user);
+    @Query("SELECT COUNT(s) FROM Scrap s "
+            + "WHERE s.user.id = :userId AND s.dType = :dType AND s.deletedDate IS NULL")
+    long countByUserIdAndDType(@Param("userId") Long userId, @Param("dType") String dType);
+
+    @Query("SELECT new com.forever.dadamda.dto.counter.UserItemCount(s.user.id, s.dType, COUNT(s)) "
+            + "FROM Scrap s WHERE s.user.id IN :userIds AND s.deletedDate IS NULL "
+            + "GROUP BY s.user.id, s.dType")
+    List<UserItemCount> countGroupByUserIdAndDType(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE scrap SET d_type = :dType WHERE scrap_id = :scrapId", nativeQuery = true)
+    int updateDType(@Param("scrapId") Long scrapId, @Param("dType") String dType);
 }
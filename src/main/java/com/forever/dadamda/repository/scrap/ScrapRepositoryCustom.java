@@ -1,10 +1,16 @@
 package com.forever.dadamda.repository.scrap;
 
+import com.forever.dadamda.dto.scrap.ScrapCursor;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
 import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.entity.user.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface ScrapRepositoryCustom {
-    Slice<Scrap> searchKeywordInScrapOrderByCreatedDateDesc(User user, String keyword, Pageable pageable);
+    Slice<ScrapListRow> findScrapListRows(Class<? extends Scrap> type, User user, String keyword,
+            Pageable pageable);
+
+    Slice<ScrapListRow> findScrapListRowsByCursor(Class<? extends Scrap> type, User user,
+            String keyword, ScrapCursor cursor, int size);
 }
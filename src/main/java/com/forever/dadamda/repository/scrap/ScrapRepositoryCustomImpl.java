@@ -2,11 +2,21 @@ package com.forever.dadamda.repository.scrap;
 
 import static com.forever.dadamda.entity.scrap.QScrap.scrap;
 
+import com.forever.dadamda.dto.scrap.ScrapCursor;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
+import com.forever.dadamda.entity.scrap.QArticle;
+import com.forever.dadamda.entity.scrap.QPlace;
+import com.forever.dadamda.entity.scrap.QProduct;
+import com.forever.dadamda.entity.scrap.QVideo;
 import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.entity.user.User;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -14,28 +24,112 @@ import org.springframework.data.domain.SliceImpl;
 @RequiredArgsConstructor
 public class ScrapRepositoryCustomImpl implements ScrapRepositoryCustom {
 
+    // SINGLE_TABLE 상속이므로 같은 별칭(scrap)을 하위 타입으로 바꿔서 하위 타입 컬럼을 조회한다.
+    private static final QArticle scrapAsArticle = scrap.as(QArticle.class);
+    private static final QVideo scrapAsVideo = scrap.as(QVideo.class);
+    private static final QProduct scrapAsProduct = scrap.as(QProduct.class);
+    private static final QPlace scrapAsPlace = scrap.as(QPlace.class);
+
     private final JPAQueryFactory queryFactory;
+    private final ScrapKeywordCondition scrapKeywordCondition;
 
+    /**
+     * 엔티티 대신 응답에 필요한 컬럼만 조회한다. (영속성 컨텍스트 적재와 변경 감지 스냅샷이 없다)
+     * type이 Scrap이면 모든 타입을, keyword가 null이면 전체 목록을 조회한다.
+     */
     @Override
-    public Slice<Scrap> searchKeywordInScrapOrderByCreatedDateDesc(User user, String keyword,
-            Pageable pageable) {
-        List<Scrap> contents = queryFactory
-                .selectFrom(scrap)
+    public Slice<ScrapListRow> findScrapListRows(Class<? extends Scrap> type, User user,
+            String keyword, Pageable pageable) {
+        List<ScrapListRow> contents = selectScrapListRows()
                 .where(
-                        scrap.user.eq(user)
-                                .and(scrap.deletedDate.isNull())
-                                .and(scrap.title.containsIgnoreCase(keyword)
-                                        .or(scrap.description.containsIgnoreCase(keyword)))
+                        scrap.user.eq(user),
+                        scrap.deletedDate.isNull(),
+                        isType(type),
+                        containsKeyword(keyword)
                 )
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize()+1)
+                .limit(pageable.getPageSize() + 1)
                 .orderBy(scrap.createdDate.desc())
                 .fetch();
 
         return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
     }
 
-    private boolean hasNextPage(List<Scrap> contents, int pageSize) {
+    /**
+     * 커서(createdDate, scrapId) 다음 스크랩부터 조회한다. (type이 Scrap이면 모든 타입, keyword가 null이면 전체 조회)
+     * offset을 쓰지 않으므로 뒤 페이지도 첫 페이지와 조회 비용이 같다.
+     */
+    @Override
+    public Slice<ScrapListRow> findScrapListRowsByCursor(Class<? extends Scrap> type, User user,
+            String keyword, ScrapCursor cursor, int size) {
+        List<ScrapListRow> contents = selectScrapListRows()
+                .where(
+                        scrap.user.eq(user),
+                        scrap.deletedDate.isNull(),
+                        isType(type),
+                        containsKeyword(keyword),
+                        isBeforeCursor(cursor)
+                )
+                .limit(size + 1)
+                .orderBy(scrap.createdDate.desc(), scrap.id.desc())
+                .fetch();
+
+        return new SliceImpl<>(contents, PageRequest.of(0, size), hasNextPage(contents, size));
+    }
+
+    private JPAQuery<ScrapListRow> selectScrapListRows() {
+        return queryFactory
+                .select(Projections.constructor(ScrapListRow.class,
+                        scrap.id,
+                        scrap.dType,
+                        scrap.description,
+                        scrap.pageUrl,
+                        scrap.siteName,
+                        scrap.thumbnailUrl,
+                        scrap.title,
+                        scrapAsArticle.publishedDate,
+                        scrap.createdDate,
+                        scrapAsArticle.author,
+                        scrapAsArticle.authorImageUrl,
+                        scrapAsArticle.blogName,
+                        scrapAsProduct.price,
+                        scrapAsVideo.channelImageUrl,
+                        scrapAsVideo.channelName,
+                        scrapAsVideo.embedUrl,
+                        scrapAsVideo.playTime,
+                        scrapAsVideo.watchedCnt,
+                        scrapAsPlace.address,
+                        scrapAsPlace.latitude,
+                        scrapAsPlace.longitude,
+                        scrapAsPlace.phoneNumber,
+                        scrapAsPlace.zipCode,
+                        scrapAsPlace.homepageUrl,
+                        scrapAsPlace.category))
+                .from(scrap);
+    }
+
+    private BooleanExpression containsKeyword(String keyword) {
+        return scrapKeywordCondition.matches(scrap.title, scrap.description, keyword);
+    }
+
+    // SINGLE_TABLE 상속의 구분 컬럼(d_type) 값은 엔티티 클래스 이름이다.
+    private BooleanExpression isType(Class<? extends Scrap> type) {
+        if (type == Scrap.class) {
+            return null;
+        }
+        return scrap.dType.eq(type.getSimpleName());
+    }
+
+    private BooleanExpression isBeforeCursor(ScrapCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return scrap.createdDate.lt(cursor.getCreatedDate())
+                .or(scrap.createdDate.eq(cursor.getCreatedDate())
+                        .and(scrap.id.lt(cursor.getScrapId())));
+    }
+
+    private boolean hasNextPage(List<?> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
             return true;
@@ -12,6 +12,4 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
     Optional<Slice<Article>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
     Optional<Article> findByIdAndUserAndDeletedDateIsNull(Long scrapId, User user);
-
-    Long countByUserAndDeletedDateIsNull(User user);
 }
@@ -9,5 +9,4 @@ public interface ArticleRepositoryCustom {
 
     Slice<Article> searchKeywordInArticleOrderByCreatedDateDesc(
             User user, String keyword, Pageable pageable);
-
 }
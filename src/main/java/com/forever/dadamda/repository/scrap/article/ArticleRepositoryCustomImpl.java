@@ -4,6 +4,8 @@ import static com.forever.dadamda.entity.scrap.QArticle.article;
 
 import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.scrap.ScrapKeywordCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.data.domain.SliceImpl;
 public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ScrapKeywordCondition scrapKeywordCondition;
 
     @Override
     public Slice<Article> searchKeywordInArticleOrderByCreatedDateDesc(User user, String keyword,
@@ -24,8 +27,7 @@ public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
                 .where(
                         article.user.eq(user)
                                 .and(article.deletedDate.isNull())
-                                .and(article.title.containsIgnoreCase(keyword)
-                                        .or(article.description.containsIgnoreCase(keyword)))
+                                .and(containsKeyword(keyword))
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize()+1)
@@ -35,6 +37,10 @@ public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
         return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
     }
 
+    private BooleanExpression containsKeyword(String keyword) {
+        return scrapKeywordCondition.matches(article.title, article.description, keyword);
+    }
+
     private boolean hasNextPage(List<Article> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
@@ -12,6 +12,4 @@ public interface OtherRepository extends JpaRepository<Other, Long>, OtherReposi
     Optional<Slice<Other>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
     Optional<Other> findByIdAndUserAndDeletedDateIsNull(Long scrapId, User user);
-
-    Long countByUserAndDeletedDateIsNull(User user);
 }
@@ -9,5 +9,4 @@ public interface OtherRepositoryCustom {
 
     Slice<Other> searchKeywordInOtherOrderByCreatedDateDesc(
             User user, String keyword, Pageable pageable);
-
 }
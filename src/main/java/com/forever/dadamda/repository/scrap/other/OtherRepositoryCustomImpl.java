@@ -4,6 +4,8 @@ import static com.forever.dadamda.entity.scrap.QOther.other;
 
 import com.forever.dadamda.entity.scrap.Other;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.scrap.ScrapKeywordCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.data.domain.SliceImpl;
 public class OtherRepositoryCustomImpl implements OtherRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ScrapKeywordCondition scrapKeywordCondition;
 
     @Override
     public Slice<Other> searchKeywordInOtherOrderByCreatedDateDesc(User user, String keyword,
@@ -24,8 +27,7 @@ public class OtherRepositoryCustomImpl implements OtherRepositoryCustom {
                 .where(
                         other.user.eq(user)
                                 .and(other.deletedDate.isNull())
-                                .and(other.title.containsIgnoreCase(keyword)
-                                        .or(other.description.containsIgnoreCase(keyword)))
+                                .and(containsKeyword(keyword))
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
@@ -35,6 +37,10 @@ public class OtherRepositoryCustomImpl implements OtherRepositoryCustom {
         return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
     }
 
+    private BooleanExpression containsKeyword(String keyword) {
+        return scrapKeywordCondition.matches(other.title, other.description, keyword);
+    }
+
     private boolean hasNextPage(List<Other> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
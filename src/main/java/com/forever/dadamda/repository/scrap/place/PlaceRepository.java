@@ -2,12 +2,15 @@ package com.forever.dadamda.repository.scrap.place;
 
 import com.forever.dadamda.entity.scrap.Place;
 import com.forever.dadamda.entity.user.User;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface PlaceRepository extends JpaRepository<Place, Long> {
+public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceRepositoryCustom {
 
     Optional<Slice<Place>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
+
+    List<Place> findTop500ByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull();
 }
@@ -0,0 +1,18 @@
+package com.forever.dadamda.repository.scrap.place;
+
+import com.forever.dadamda.dto.scrap.ScrapListRow;
+import com.forever.dadamda.dto.scrap.place.GetPlaceClusterResponse;
+import com.forever.dadamda.entity.user.User;
+import java.util.Collection;
+import java.util.List;
+
+public interface PlaceRepositoryCustom {
+
+    List<ScrapListRow> findNearestPlaces(User user, Collection<String> geohashCells,
+            double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+            double latitude, double longitude, Double radiusMeters, int size);
+
+    List<GetPlaceClusterResponse> findPlaceClusters(User user, Collection<String> geohashCells,
+            int precision, double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude);
+}
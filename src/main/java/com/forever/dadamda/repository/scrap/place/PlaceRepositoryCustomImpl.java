@@ -0,0 +1,137 @@
+package com.forever.dadamda.repository.scrap.place;
+
+import static com.forever.dadamda.entity.scrap.QPlace.place;
+
+import com.forever.dadamda.dto.scrap.ScrapListRow;
+import com.forever.dadamda.dto.scrap.place.GetPlaceClusterResponse;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.util.GeohashUtils;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
+
+    // 평면 거리로 비교하므로 경계 근처 장소가 빠지지 않도록 반지름을 조금 넓혀서 조회한다.
+    private static final double RADIUS_MARGIN = 1.01;
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 범위 안 장소를 기준 지점에서 가까운 순서로 size개만 조회한다. (radiusMeters가 null이면 반지름 조건 없음)
+     * 거리는 경도 차이를 cos(기준 위도)만큼 줄인 평면 거리로 비교한다. 정확한 거리는 조회한 장소만 다시 계산한다.
+     */
+    @Override
+    public List<ScrapListRow> findNearestPlaces(User user, Collection<String> geohashCells,
+            double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+            double latitude, double longitude, Double radiusMeters, int size) {
+        NumberExpression<Double> squaredDistance = squaredDistance(latitude, longitude);
+
+        return queryFactory
+                .select(Projections.constructor(ScrapListRow.class,
+                        place.id,
+                        place.description,
+                        place.pageUrl,
+                        place.siteName,
+                        place.thumbnailUrl,
+                        place.title,
+                        place.createdDate,
+                        place.address,
+                        place.latitude,
+                        place.longitude,
+                        place.phoneNumber,
+                        place.zipCode,
+                        place.homepageUrl,
+                        place.category))
+                .from(place)
+                .where(
+                        place.user.eq(user),
+                        place.deletedDate.isNull(),
+                        isInGeohashCells(geohashCells),
+                        place.latitude.between(BigDecimal.valueOf(minLatitude),
+                                BigDecimal.valueOf(maxLatitude)),
+                        place.longitude.between(BigDecimal.valueOf(minLongitude),
+                                BigDecimal.valueOf(maxLongitude)),
+                        isInRadius(squaredDistance, radiusMeters)
+                )
+                .orderBy(squaredDistance.asc(), place.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 영역 안 장소를 geohash 앞 precision 글자로 묶어서(GROUP BY) 셀마다 개수와 평균 좌표를 조회한다.
+     * 장소 엔티티를 만들지 않으므로 장소 개수와 관계없이 셀 개수만큼만 읽어온다.
+     */
+    @Override
+    public List<GetPlaceClusterResponse> findPlaceClusters(User user,
+            Collection<String> geohashCells, int precision, double minLatitude,
+            double minLongitude, double maxLatitude, double maxLongitude) {
+        // SELECT와 GROUP BY 식이 같아야 하므로 길이를 바인딩 파라미터 대신 리터럴로 넣는다.
+        StringExpression clusterGeohash = Expressions.stringTemplate(
+                "substring({0}, 1, " + precision + ")", place.geohash);
+
+        return queryFactory
+                .select(Projections.constructor(GetPlaceClusterResponse.class,
+                        clusterGeohash,
+                        place.id.count(),
+                        place.latitude.avg(),
+                        place.longitude.avg(),
+                        place.id.min()))
+                .from(place)
+                .where(
+                        place.user.eq(user),
+                        place.deletedDate.isNull(),
+                        isInGeohashCells(geohashCells),
+                        place.latitude.between(BigDecimal.valueOf(minLatitude),
+                                BigDecimal.valueOf(maxLatitude)),
+                        place.longitude.between(BigDecimal.valueOf(minLongitude),
+                                BigDecimal.valueOf(maxLongitude))
+                )
+                .groupBy(clusterGeohash)
+                .orderBy(clusterGeohash.asc())
+                .fetch();
+    }
+
+    /**
+     * 기준 지점까지의 평면 거리의 제곱 (단위: 위도 1도)
+     * 기준 좌표는 ORDER BY 식에 들어가므로 바인딩 파라미터 대신 리터럴로 넣는다.
+     */
+    private NumberExpression<Double> squaredDistance(double latitude, double longitude) {
+        String latitudeLiteral = BigDecimal.valueOf(latitude).toPlainString();
+        String longitudeLiteral = BigDecimal.valueOf(longitude).toPlainString();
+        double longitudeScale = GeohashUtils.longitudeScale(latitude);
+        String squaredScaleLiteral = BigDecimal.valueOf(longitudeScale * longitudeScale)
+                .toPlainString();
+
+        return Expressions.numberTemplate(Double.class,
+                "({0} - (" + latitudeLiteral + ")) * ({0} - (" + latitudeLiteral + ")) + "
+                        + "({1} - (" + longitudeLiteral + ")) * ({1} - (" + longitudeLiteral
+                        + ")) * " + squaredScaleLiteral,
+                place.latitude, place.longitude);
+    }
+
+    private BooleanExpression isInRadius(NumberExpression<Double> squaredDistance,
+            Double radiusMeters) {
+        if (radiusMeters == null) {
+            return null;
+        }
+        double radiusDegrees = GeohashUtils.radiusDegrees(radiusMeters) * RADIUS_MARGIN;
+        return squaredDistance.loe(radiusDegrees * radiusDegrees);
+    }
+
+    private BooleanBuilder isInGeohashCells(Collection<String> geohashCells) {
+        BooleanBuilder inGeohashCells = new BooleanBuilder();
+        geohashCells.forEach(geohashCell -> inGeohashCells.or(place.geohash.startsWith(geohashCell)));
+        return inGeohashCells;
+    }
+}
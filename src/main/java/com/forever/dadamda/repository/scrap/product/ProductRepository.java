@@ -12,6 +12,4 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     Optional<Slice<Product>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
     Optional<Product> findByIdAndUserAndDeletedDateIsNull(Long scrapId, User user);
-
-    Long countByUserAndDeletedDateIsNull(User user);
 }
@@ -10,5 +10,4 @@ public interface ProductRepositoryCustom {
 
     Slice<Product> searchKeywordInProductOrderByCreatedDateDesc(
             User user, String keyword, Pageable pageable);
-
 }
@@ -4,6 +4,8 @@ import static com.forever.dadamda.entity.scrap.QProduct.product;
 
 import com.forever.dadamda.entity.scrap.Product;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.scrap.ScrapKeywordCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.data.domain.SliceImpl;
 public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ScrapKeywordCondition scrapKeywordCondition;
 
     @Override
     public Slice<Product> searchKeywordInProductOrderByCreatedDateDesc(User user, String keyword,
@@ -24,8 +27,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .where(
                         product.user.eq(user)
                                 .and(product.deletedDate.isNull())
-                                .and(product.title.containsIgnoreCase(keyword)
-                                        .or(product.description.containsIgnoreCase(keyword)))
+                                .and(containsKeyword(keyword))
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
@@ -35,6 +37,10 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
     }
 
+    private BooleanExpression containsKeyword(String keyword) {
+        return scrapKeywordCondition.matches(product.title, product.description, keyword);
+    }
+
     private boolean hasNextPage(List<Product> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
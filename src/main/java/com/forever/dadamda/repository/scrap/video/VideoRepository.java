@@ -12,6 +12,4 @@ public interface VideoRepository extends JpaRepository<Video, Long>, VideoReposi
     Optional<Slice<Video>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
     Optional<Video> findByIdAndUserAndDeletedDateIsNull(Long scrapId, User user);
-
-    Long countByUserAndDeletedDateIsNull(User user);
 }
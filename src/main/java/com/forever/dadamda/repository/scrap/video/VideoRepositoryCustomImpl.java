@@ -4,6 +4,8 @@ import static com.forever.dadamda.entity.scrap.QVideo.video;
 
 import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.scrap.ScrapKeywordCondition;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import org.springframework.data.domain.SliceImpl;
 public class VideoRepositoryCustomImpl implements VideoRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ScrapKeywordCondition scrapKeywordCondition;
 
     @Override
     public Slice<Video> searchKeywordInVideoOrderByCreatedDateDesc(User user, String keyword,
@@ -24,8 +27,7 @@ public class VideoRepositoryCustomImpl implements VideoRepositoryCustom {
                 .where(
                         video.user.eq(user)
                                 .and(video.deletedDate.isNull())
-                                .and(video.title.containsIgnoreCase(keyword)
-                                        .or(video.description.containsIgnoreCase(keyword)))
+                                .and(containsKeyword(keyword))
                 )
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
@@ -35,6 +37,10 @@ public class VideoRepositoryCustomImpl implements VideoRepositoryCustom {
         return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
     }
 
+    private BooleanExpression containsKeyword(String keyword) {
+        return scrapKeywordCondition.matches(video.title, video.description, keyword);
+    }
+
     private boolean hasNextPage(List<Video> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
@@ -4,7 +4,6 @@ import static com.forever.dadamda.service.UUIDService.generateUUID;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.board.CreateBoardRequest;
 import com.forever.dadamda.dto.board.GetBoardContentsResponse;
@@ -14,17 +13,16 @@ import com.forever.dadamda.dto.board.GetSharedBoardContentsResponse;
 import com.forever.dadamda.dto.board.GetSharedBoardTitleResponse;
 import com.forever.dadamda.dto.board.UpdateBoardContentsRequest;
 import com.forever.dadamda.dto.board.UpdateBoardRequest;
+import com.forever.dadamda.dto.upload.GetPresignedUploadUrlResponse;
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.board.BoardRepository;
+import com.forever.dadamda.service.counter.UserCounterService;
 import com.forever.dadamda.service.user.UserService;
 
 import io.sentry.Sentry;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +31,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -45,6 +44,9 @@ public class BoardService {
     private final UserService userService;
     private final BoardRepository boardRepository;
     private final AmazonS3 s3Client;
+    private final S3UploadService s3UploadService;
+    private final UserCounterService userCounterService;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public void createBoards(String email, CreateBoardRequest createBoardRequest) {
@@ -53,6 +55,7 @@ public class BoardService {
         Board board = createBoardRequest.toEntity(user, generateUUID());
 
         boardRepository.save(board);
+        userCounterService.increase(user.getId(), UserCounterService.BOARD);
     }
 
     @Transactional
@@ -63,6 +66,7 @@ public class BoardService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
 
         board.updateDeletedDate(LocalDateTime.now());
+        userCounterService.decrease(user.getId(), UserCounterService.BOARD);
     }
 
     @Transactional
@@ -83,9 +87,7 @@ public class BoardService {
     public Slice<GetBoardResponse> getBoardList(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Board> boardSlice = boardRepository.getBoardsList(user, pageable);
-
-        return boardSlice.map(GetBoardResponse::of);
+        return boardRepository.getBoardsList(user, pageable);
     }
 
     @Transactional
@@ -122,30 +124,55 @@ public class BoardService {
 
     @Transactional
     public void uploadThumbnailImage(Board board, MultipartFile file) {
-        File fileObj = convertMultiPartFileToFile(file);
-        String fileName = "thumbnail/" + board.getUuid();
-        s3Client.putObject(new PutObjectRequest(bucketName, fileName, fileObj));
-        fileObj.delete();
-
-        String url = s3Client.getUrl(bucketName, fileName).toString();
+        String url = s3UploadService.upload("thumbnail/" + board.getUuid(), file);
         board.updateThumbnailUrl(url);
     }
 
-    private File convertMultiPartFileToFile(MultipartFile file) {
-        File convertedFile = new File(file.getOriginalFilename());
-        try (FileOutputStream fos = new FileOutputStream(convertedFile)) {
-            fos.write(file.getBytes());
-        } catch (IOException e) {
-            Sentry.captureException(e);
-            throw new IllegalArgumentException("파일 변환에 실패했습니다.");
+    /**
+     * 보드 썸네일을 S3에 직접 올릴 presigned URL을 발급한다. 업로드 후 confirmThumbnailImage를 호출해야 반영된다.
+     */
+    @Transactional(readOnly = true)
+    public GetPresignedUploadUrlResponse getThumbnailImageUploadUrl(String email, UUID boardUUID,
+            String contentType) {
+        User user = userService.validateUser(email);
+
+        Board board = boardRepository.findByUserAndUuidAndDeletedDateIsNull(user, boardUUID)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
+
+        return s3UploadService.generateImageUploadUrl("thumbnail/" + board.getUuid(), contentType);
+    }
+
+    /**
+     * S3 확인과 복사는 트랜잭션 밖에서 하고, URL만 짧은 트랜잭션에서 반영한다. (S3를 호출하는 동안 DB 커넥션을 잡지 않도록)
+     * 반영하지 못하면 복사한 파일을 지운다. 단, 기존 URL이 같은 파일을 가리키면 사용 중인 썸네일이므로 남긴다.
+     */
+    public void confirmThumbnailImage(String email, UUID boardUUID, String uploadKey) {
+        User user = userService.validateUser(email);
+
+        Board board = findBoard(user, boardUUID);
+        String key = "thumbnail/" + board.getUuid();
+
+        String url = s3UploadService.confirmImageUpload(key, uploadKey);
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> findBoard(user, boardUUID).updateThumbnailUrl(url));
+        } catch (RuntimeException e) {
+            if (!url.equals(board.getThumbnailUrl())) {
+                s3UploadService.delete(key);
+            }
+            throw e;
         }
-        return convertedFile;
+    }
+
+    private Board findBoard(User user, UUID boardUUID) {
+        return boardRepository.findByUserAndUuidAndDeletedDateIsNull(user, boardUUID)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
     }
 
     @Transactional(readOnly = true)
     public Long getBoardCount(String email) {
         User user = userService.validateUser(email);
-        return boardRepository.countByUserAndDeletedDateIsNull(user);
+        return userCounterService.getItemCount(user.getId(), UserCounterService.BOARD);
     }
 
     @Transactional(readOnly = true)
@@ -161,9 +188,7 @@ public class BoardService {
     public Slice<GetBoardResponse> searchBoards(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Board> boardSlice = boardRepository.searchKeywordInBoardList(user, keyword, pageable);
-
-        return boardSlice.map(GetBoardResponse::of);
+        return boardRepository.searchKeywordInBoardList(user, keyword, pageable);
     }
 
     @Transactional
@@ -273,6 +298,7 @@ public class BoardService {
                 .build();
 
         Board copyedBoard = boardRepository.save(newBoard);
+        userCounterService.increase(user.getId(), UserCounterService.BOARD);
 
         copyBoard.addShareCnt();
 
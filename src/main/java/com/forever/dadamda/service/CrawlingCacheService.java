@@ -0,0 +1,178 @@
+package com.forever.dadamda.service;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.util.UrlUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 크롤링 결과 캐시 (L1: 로컬 Caffeine, L2: Redis)
+ * 사용자와 상관없이 정규화된 URL의 해시를 키로 공유하며, 타입별로 TTL이 다르다.
+ */
+@Service
+public class CrawlingCacheService {
+
+    private static final String REDIS_KEY_PREFIX = "crawling:";
+
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final Duration videoTtl;
+    private final Duration articleTtl;
+    private final Duration productTtl;
+    private final Duration placeTtl;
+    private final Duration otherTtl;
+
+    private final Cache<String, WebClientBodyResponse> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectReader crawlingBodyReader;
+    private final ObjectWriter crawlingBodyWriter;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter redisErrorCounter;
+
+    public CrawlingCacheService(
+            @Value("${crawling.cache.enabled:true}") boolean enabled,
+            @Value("${crawling.cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${crawling.cache.maximum-size:10000}") long maximumSize,
+            @Value("${crawling.cache.ttl-minutes.video:360}") long videoTtlMinutes,
+            @Value("${crawling.cache.ttl-minutes.article:1440}") long articleTtlMinutes,
+            @Value("${crawling.cache.ttl-minutes.product:60}") long productTtlMinutes,
+            @Value("${crawling.cache.ttl-minutes.place:1440}") long placeTtlMinutes,
+            @Value("${crawling.cache.ttl-minutes.other:60}") long otherTtlMinutes,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectReader crawlingBodyReader,
+            ObjectWriter crawlingBodyWriter,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+        this.redisEnabled = this.redisTemplate != null;
+        this.videoTtl = Duration.ofMinutes(videoTtlMinutes);
+        this.articleTtl = Duration.ofMinutes(articleTtlMinutes);
+        this.productTtl = Duration.ofMinutes(productTtlMinutes);
+        this.placeTtl = Duration.ofMinutes(placeTtlMinutes);
+        this.otherTtl = Duration.ofMinutes(otherTtlMinutes);
+        this.crawlingBodyReader = crawlingBodyReader;
+        this.crawlingBodyWriter = crawlingBodyWriter;
+
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, WebClientBodyResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, WebClientBodyResponse value,
+                            long currentTime) {
+                        return getTtl(value).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, WebClientBodyResponse value,
+                            long currentTime, long currentDuration) {
+                        return getTtl(value).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, WebClientBodyResponse value,
+                            long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .<String, WebClientBodyResponse>build(), "crawling");
+
+        this.redisHitCounter = Counter.builder("crawling.cache.redis").tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("crawling.cache.redis").tag("result", "miss")
+                .register(meterRegistry);
+        this.redisErrorCounter = Counter.builder("crawling.cache.redis").tag("result", "error")
+                .register(meterRegistry);
+    }
+
+    public Optional<WebClientBodyResponse> get(String pageUrl) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String key = UrlUtils.hash(pageUrl);
+
+        WebClientBodyResponse cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return getFromRedis(key).map(response -> {
+            localCache.put(key, response);
+            return response;
+        });
+    }
+
+    public void put(String pageUrl, WebClientBodyResponse crawlingResponse) {
+        if (!enabled || crawlingResponse == null) {
+            return;
+        }
+
+        String key = UrlUtils.hash(pageUrl);
+        localCache.put(key, crawlingResponse);
+        putToRedis(key, crawlingResponse);
+    }
+
+    private Optional<WebClientBodyResponse> getFromRedis(String key) {
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            if (value == null) {
+                redisMissCounter.increment();
+                return Optional.empty();
+            }
+            redisHitCounter.increment();
+            return Optional.of(crawlingBodyReader.readValue(value));
+        } catch (Exception e) {
+            redisErrorCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    private void putToRedis(String key, WebClientBodyResponse crawlingResponse) {
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key,
+                    crawlingBodyWriter.writeValueAsString(crawlingResponse),
+                    getTtl(crawlingResponse));
+        } catch (Exception e) {
+            redisErrorCounter.increment();
+        }
+    }
+
+    private Duration getTtl(WebClientBodyResponse crawlingResponse) {
+        String type = crawlingResponse.getType() == null ? "" : crawlingResponse.getType();
+        switch (type) {
+            case "video":
+                return videoTtl;
+            case "article":
+                return articleTtl;
+            case "product":
+                return productTtl;
+            case "place":
+                return placeTtl;
+            default:
+                return otherTtl;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.util.UrlUtils;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@RequiredArgsConstructor
+public class CrawlingService {
+
+    private final WebClientService webClientService;
+    private final CrawlingCacheService crawlingCacheService;
+
+    // 정규화된 URL 해시별로 진행 중인 크롤링 (같은 URL을 동시에 크롤링하면 먼저 시작한 크롤링 결과를 같이 쓴다)
+    private final ConcurrentHashMap<String, CompletableFuture<WebClientBodyResponse>> inFlightCrawls
+            = new ConcurrentHashMap<>();
+
+    @Value("${crawling.server.post.api.endPoint}")
+    private String crawlingApiEndPoint;
+
+    public WebClientBodyResponse crawling(String pageUrl) {
+        Optional<WebClientBodyResponse> cachedResponse = crawlingCacheService.get(pageUrl);
+        if (cachedResponse.isPresent()) {
+            return cachedResponse.get();
+        }
+
+        String urlHash = UrlUtils.hash(pageUrl);
+        CompletableFuture<WebClientBodyResponse> crawl = new CompletableFuture<>();
+        CompletableFuture<WebClientBodyResponse> inFlightCrawl = inFlightCrawls.putIfAbsent(urlHash,
+                crawl);
+        if (inFlightCrawl != null) {
+            // 크롤링 서버 타임아웃이 있으므로 무한정 기다리지 않는다.
+            return inFlightCrawl.join();
+        }
+
+        WebClientBodyResponse crawlingResponse = null;
+        try {
+            crawlingResponse = webClientService.crawlingItem(crawlingApiEndPoint, pageUrl);
+
+            if (crawlingResponse != null) {
+                trimDescription(crawlingResponse);
+                crawlingCacheService.put(pageUrl, crawlingResponse);
+            }
+
+            return crawlingResponse;
+        } finally {
+            crawl.complete(crawlingResponse);
+            inFlightCrawls.remove(urlHash, crawl);
+        }
+    }
+
+    /**
+     * crawling과 같지만 크롤링 서버를 블로킹 없이 호출한다. 크롤링에 실패하면 빈 Mono를 반환한다.
+     */
+    public Mono<WebClientBodyResponse> crawlingMono(String pageUrl) {
+        return Mono.defer(() -> crawlingCacheService.get(pageUrl)
+                .map(Mono::just)
+                .orElseGet(() -> crawlingOnce(pageUrl)));
+    }
+
+    /**
+     * 캐시를 읽지 않고 크롤링 서버에서 다시 크롤링한다. (재크롤링용, 새 결과는 캐시에 저장한다)
+     */
+    public Mono<WebClientBodyResponse> recrawlingMono(String pageUrl) {
+        return Mono.defer(() -> crawlingOnce(pageUrl));
+    }
+
+    private Mono<WebClientBodyResponse> crawlingOnce(String pageUrl) {
+        String urlHash = UrlUtils.hash(pageUrl);
+        CompletableFuture<WebClientBodyResponse> crawl = new CompletableFuture<>();
+        CompletableFuture<WebClientBodyResponse> inFlightCrawl = inFlightCrawls.putIfAbsent(urlHash,
+                crawl);
+        if (inFlightCrawl != null) {
+            return Mono.fromFuture(inFlightCrawl);
+        }
+
+        return webClientService.crawlingItemMono(crawlingApiEndPoint, pageUrl)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(crawlingResponse -> {
+                    trimDescription(crawlingResponse);
+                    crawlingCacheService.put(pageUrl, crawlingResponse);
+                })
+                .doOnSuccess(crawl::complete)
+                .doFinally(signalType -> {
+                    crawl.complete(null);
+                    inFlightCrawls.remove(urlHash, crawl);
+                });
+    }
+
+    private void trimDescription(WebClientBodyResponse crawlingResponse) {
+        if(crawlingResponse.getDescription() != null) {
+            if(crawlingResponse.getDescription().length() > 1000) {
+                crawlingResponse.setDescription(crawlingResponse.getDescription().substring(0, 1000));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.entity.job.JobLock;
+import com.forever.dadamda.repository.JobLockRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class JobLockService {
+
+    // 이 서버를 구분하는 값 (잠금을 가진 서버만 갱신, 해제할 수 있다)
+    private final String owner = UUIDService.generateUUID().toString();
+
+    private final JobLockRepository jobLockRepository;
+
+    /**
+     * 다른 서버가 잠금을 가지고 있지 않으면 leaseDuration 동안 잠금을 얻는다.
+     */
+    @Transactional
+    public boolean tryAcquire(String name, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobLockRepository.acquire(name, owner, now.plus(leaseDuration), now) == 1;
+    }
+
+    @Transactional(readOnly = true)
+    public Long getCheckpoint(String name) {
+        return jobLockRepository.findById(name).map(JobLock::getCheckpoint).orElse(null);
+    }
+
+    /**
+     * 잠금 기간을 늘리면서 checkpoint를 저장한다. 잠금을 잃었으면 false를 반환한다.
+     */
+    @Transactional
+    public boolean renew(String name, Duration leaseDuration, Long checkpoint) {
+        return jobLockRepository.renew(name, owner, LocalDateTime.now().plus(leaseDuration),
+                checkpoint) == 1;
+    }
+
+    @Transactional
+    public void release(String name) {
+        jobLockRepository.release(name, owner);
+    }
+
+    /**
+     * 잠금 row가 없으면 만든다. (여러 서버가 동시에 만들면 하나만 성공한다)
+     */
+    public void createIfAbsent(String name) {
+        if (jobLockRepository.existsById(name)) {
+            return;
+        }
+
+        try {
+            jobLockRepository.saveAndFlush(new JobLock(name));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 만든 경우
+        }
+    }
+}
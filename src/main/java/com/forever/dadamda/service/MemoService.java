@@ -14,6 +14,7 @@ import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.ScrapRepository;
 import com.forever.dadamda.service.scrap.ScrapService;
 import com.forever.dadamda.service.user.UserService;
+import com.forever.dadamda.util.UrlUtils;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import net.minidev.json.parser.ParseException;
@@ -29,7 +30,9 @@ public class MemoService {
     private final ScrapRepository scrapRepository;
     private final ScrapService scrapService;
 
-    @Transactional
+    /**
+     * 스크랩이 없으면 크롤링해야 하므로 트랜잭션 없이 실행한다. (스크랩, 메모 저장만 각각 트랜잭션으로 실행)
+     */
     public CreateHighlightResponse createHighlights(String email,
             CreateHighlightRequest createHighlightRequest) {
         User user = userService.validateUser(email);
@@ -37,7 +40,7 @@ public class MemoService {
         //1. 해당 pageUrl이 DB에 없으면, 스크랩해서 넣는다.
         String pageUrl = createHighlightRequest.getPageUrl();
         Scrap scrap = scrapRepository
-                .findByPageUrlAndUserAndDeletedDateIsNull(pageUrl, user)
+                .findFirstByUserAndUrlHashAndDeletedDateIsNull(user, UrlUtils.hash(pageUrl))
                 .orElseGet(() -> {
                     try {
                         return scrapService.saveScraps(user, pageUrl);
@@ -5,6 +5,7 @@ public class RandomService {
     public static final int adjectivesLength = 30;
     public static final int animalsLength = 30;
     public static final int numberLength = 1000;
+    public static final int nicknameCount = adjectivesLength * animalsLength * numberLength;
 
     public static final String[] adjectives = {
             "졸린", "귀여운", "용감한", "화난", "흥겨운", "우등생", "달리는", "거대한", "심심한", "더운",
@@ -24,4 +25,14 @@ public class RandomService {
         String number = String.valueOf((int) (Math.random() * numberLength));
         return adjective + animal + number;
     }
+
+    /**
+     * 만들 수 있는 닉네임(형용사 x 동물 x 숫자) 중 index번째 닉네임
+     */
+    public static String nicknameAt(int index) {
+        String adjective = adjectives[index / (animalsLength * numberLength)];
+        String animal = animals[index / numberLength % animalsLength];
+        String number = String.valueOf(index % numberLength);
+        return adjective + animal + number;
+    }
 }
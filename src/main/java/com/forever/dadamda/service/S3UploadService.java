@@ -0,0 +1,192 @@
+package com.forever.dadamda.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.dto.upload.GetPresignedUploadUrlResponse;
+import com.forever.dadamda.exception.InvalidException;
+import com.forever.dadamda.exception.NotFoundException;
+import io.sentry.Sentry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드한 파일을 임시 파일이나 byte 배열로 만들지 않고 S3로 바로 스트리밍한다.
+ * 큰 파일은 partSize씩 나눠서 멀티파트 업로드하므로, 파일 크기와 관계없이 업로드 하나가 쓰는 메모리가 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class S3UploadService {
+
+    // S3 멀티파트 업로드의 마지막 파트를 제외한 파트 최소 크기
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    // presigned URL로 올릴 수 있는 이미지 형식
+    private static final Set<String> IMAGE_CONTENT_TYPES = Set.of("image/png", "image/jpeg",
+            "image/gif", "image/webp");
+
+    // presigned URL로 올린 이미지를 확인하기 전까지 두는 임시 key 접두사
+    private static final String PENDING_KEY_PREFIX = "pending/";
+
+    private final AmazonS3 s3Client;
+
+    @Value("${application.bucket.name}")
+    private String bucketName;
+
+    @Value("${application.upload.multipart-threshold-bytes:16777216}")
+    private long multipartThreshold;
+
+    @Value("${application.upload.part-size-bytes:8388608}")
+    private long partSize;
+
+    @Value("${application.upload.presigned-url-expire-seconds:300}")
+    private long presignedUrlExpireSeconds;
+
+    @Value("${application.upload.max-image-bytes:10485760}")
+    private long maxImageBytes;
+
+    /**
+     * 클라이언트가 이미지를 직접 올릴 presigned PUT URL을 만든다. (이미지가 API 서버를 거치지 않는다)
+     * key에 바로 올리지 않고 임시 key(uploadKey)에 올려서, 확인하기 전까지 기존 이미지를 덮어쓰지 않는다.
+     * Content-Type을 서명에 포함하므로 다른 형식으로는 올릴 수 없다.
+     */
+    public GetPresignedUploadUrlResponse generateImageUploadUrl(String key, String contentType) {
+        if (contentType == null || !IMAGE_CONTENT_TYPES.contains(contentType)) {
+            throw new InvalidException(ErrorCode.INVALID_IMAGE);
+        }
+
+        String uploadKey = pendingKeyPrefix(key) + UUID.randomUUID();
+        Date expiration = new Date(System.currentTimeMillis() + presignedUrlExpireSeconds * 1000);
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName,
+                uploadKey, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+
+        return GetPresignedUploadUrlResponse.of(s3Client.generatePresignedUrl(request).toString(),
+                uploadKey, contentType, LocalDateTime.ofInstant(expiration.toInstant(),
+                        ZoneId.systemDefault()));
+    }
+
+    /**
+     * uploadKey에 올라온 이미지를 확인하고 key로 복사한 뒤 파일 URL을 반환한다.
+     * PUT presigned URL은 크기를 제한할 수 없으므로 여기서 확인하고, 너무 크거나 이미지가 아니면 임시 파일만 지운다.
+     */
+    public String confirmImageUpload(String key, String uploadKey) {
+        if (uploadKey == null || !uploadKey.startsWith(pendingKeyPrefix(key))
+                || uploadKey.indexOf('/', pendingKeyPrefix(key).length()) >= 0) {
+            throw new InvalidException(ErrorCode.INVALID_IMAGE);
+        }
+
+        ObjectMetadata metadata;
+        try {
+            metadata = s3Client.getObjectMetadata(bucketName, uploadKey);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new NotFoundException(ErrorCode.NOT_EXISTS);
+            }
+            throw e;
+        }
+
+        if (!IMAGE_CONTENT_TYPES.contains(metadata.getContentType())
+                || metadata.getContentLength() > maxImageBytes) {
+            s3Client.deleteObject(bucketName, uploadKey);
+            throw new InvalidException(ErrorCode.INVALID_IMAGE);
+        }
+
+        s3Client.copyObject(bucketName, uploadKey, bucketName, key);
+        s3Client.deleteObject(bucketName, uploadKey);
+
+        return s3Client.getUrl(bucketName, key).toString();
+    }
+
+    /**
+     * 확인한 이미지를 DB에 반영하지 못했을 때, key로 복사한 파일을 지운다.
+     */
+    public void delete(String key) {
+        s3Client.deleteObject(bucketName, key);
+    }
+
+    // 확인하지 않은 임시 파일은 버킷 수명 주기 규칙(pending/ 접두사)으로 지운다.
+    private String pendingKeyPrefix(String key) {
+        return PENDING_KEY_PREFIX + key + "/";
+    }
+
+    /**
+     * 파일을 key로 업로드하고 파일 URL을 반환한다.
+     */
+    public String upload(String key, MultipartFile file) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(file.getContentType());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            if (file.getSize() > multipartThreshold) {
+                uploadMultipart(key, inputStream, file.getSize(), metadata);
+            } else {
+                // 길이를 알려주면 SDK가 스트림 전체를 메모리에 올리지 않는다.
+                metadata.setContentLength(file.getSize());
+                s3Client.putObject(new PutObjectRequest(bucketName, key, inputStream, metadata));
+            }
+        } catch (IOException e) {
+            Sentry.captureException(e);
+            throw new IllegalArgumentException("파일 저장 중 에러가 발생했습니다.");
+        }
+
+        return s3Client.getUrl(bucketName, key).toString();
+    }
+
+    private void uploadMultipart(String key, InputStream inputStream, long contentLength,
+            ObjectMetadata metadata) {
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+
+        try {
+            long partSize = Math.max(this.partSize, MIN_PART_SIZE);
+            List<PartETag> partETags = new ArrayList<>();
+
+            long offset = 0;
+            for (int partNumber = 1; offset < contentLength; partNumber++) {
+                long currentPartSize = Math.min(partSize, contentLength - offset);
+
+                // SDK가 같은 스트림에서 currentPartSize만큼만 읽어서 보낸다.
+                partETags.add(s3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(inputStream)
+                        .withPartSize(currentPartSize)
+                        .withLastPart(offset + currentPartSize == contentLength)).getPartETag());
+
+                offset += currentPartSize;
+            }
+
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key,
+                    uploadId, partETags));
+        } catch (RuntimeException e) {
+            // 완료하지 못한 파트가 버킷에 남아서 과금되지 않도록 업로드를 취소한다.
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key,
+                    uploadId));
+            throw e;
+        }
+    }
+}
@@ -1,12 +1,26 @@
 package com.forever.dadamda.service;
 
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.service.user.UserCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -18,24 +32,68 @@ import java.util.Date;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class TokenService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String USER_VERSION_CLAIM = "ver";
+
+    private final MeterRegistry meterRegistry;
+
     private Key secretKey;
 
+    // 서명 키를 설정한 파서는 스레드 안전하므로 요청마다 만들지 않고 재사용한다.
+    private JwtParser jwtParser;
+
+    // 서명을 검증한 토큰의 해시별 클레임 (토큰 만료 시각에 캐시에서도 지워진다)
+    private Cache<String, Claims> verifiedTokens;
+
     @Value("${security.jwt.token.secret-key}")
     private String SECRET_KEY;
 
     @Value("${security.jwt.token.expire-length}")
     private Long EXPIRE_LENGTH;
 
+    @Value("${security.jwt.token.verified-cache-size:10000}")
+    private long VERIFIED_CACHE_SIZE;
+
     @PostConstruct
     protected void init() {
         secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        verifiedTokens = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(VERIFIED_CACHE_SIZE)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0,
+                                claims.getExpiration().getTime() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .<String, Claims>build(), "jwt");
     }
 
-    public String generateToken(String email, String role) {
-        Claims claims = Jwts.claims().setSubject(email);
+    /**
+     * 회원 id와 버전(회원 정보를 마지막으로 수정한 시각)을 같이 넣어서 서버마다 회원 캐시가 최신인지 확인할 수 있게 한다.
+     */
+    public String generateToken(User user, String role) {
+        Claims claims = Jwts.claims().setSubject(user.getEmail());
         claims.put("role", role);
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(USER_VERSION_CLAIM, UserCacheService.versionOf(user));
 
         return Jwts.builder().setClaims(claims)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
@@ -44,21 +102,31 @@ public class TokenService {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(secretKey)
-                .build().parseClaimsJws(token);
-
-        return claims.getBody().getExpiration()
-                .after(new Date(System.currentTimeMillis()));
-    }
-
-    public String getEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build().parseClaimsJws(token).getBody().getSubject();
+    /**
+     * 토큰의 서명과 만료 시각을 한번만 검증하고 클레임을 반환한다.
+     * 최근에 검증한 토큰은 해시 조회만으로 클레임을 반환한다. 검증에 실패하면 JwtException이 발생한다.
+     */
+    public Claims verifyToken(String token) {
+        return verifiedTokens.get(hash(token), key -> {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null) {
+                throw new MalformedJwtException("만료 시각이 없는 토큰입니다.");
+            }
+            return claims;
+        });
     }
 
     public String resolveToken(HttpServletRequest request) {
         return request.getHeader("X-AUTH-TOKEN");
     }
-}
\ No newline at end of file
+
+    private String hash(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(
+                    messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,57 +1,132 @@
 package com.forever.dadamda.service;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.dto.webClient.WebClientResponse;
+import com.forever.dadamda.exception.CrawlingClientException;
+import com.forever.dadamda.exception.CrawlingServerException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ConnectTimeoutException;
 import io.sentry.Sentry;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
 
 @Service
+@RequiredArgsConstructor
 public class WebClientService {
 
-    @Transactional
+    private static final Set<String> KNOWN_TYPES = Set.of("video", "article", "product", "place",
+            "other");
+
+    private final WebClient crawlingWebClient;
+    private final ObjectReader crawlingBodyReader;
+    private final CircuitBreaker crawlingCircuitBreaker;
+    private final Bulkhead crawlingBulkhead;
+    private final MeterRegistry meterRegistry;
+
     public WebClientBodyResponse crawlingItem(String crawlingApiEndPoint, String pageUrl) {
+        return crawlingItemMono(crawlingApiEndPoint, pageUrl).block();
+    }
+
+    /**
+     * 크롤링 서버를 블로킹 없이 호출한다. 크롤링에 실패하면 빈 Mono를 반환한다.
+     * 서킷이 열려 있거나 동시 호출 수가 벌크헤드 한도를 넘으면 호출하지 않고 바로 빈 Mono를 반환한다.
+     * 호출 시간은 결과(outcome)와 스크랩 타입(type)별로 crawling.client.requests 지표에 기록한다.
+     */
+    public Mono<WebClientBodyResponse> crawlingItemMono(String crawlingApiEndPoint,
+            String pageUrl) {
         Map<String, Object> bodyMap = new HashMap<>();
         bodyMap.put("url", pageUrl);
 
-        WebClient webClient = WebClient.builder().baseUrl(crawlingApiEndPoint).build();
-
-        try {
-            WebClientResponse webClientResponse = webClient.post()
-                    .bodyValue(bodyMap)
-                    .retrieve()
-                    .onStatus(HttpStatus::is4xxClientError, clientResponse -> {
-                        Sentry.captureMessage(
-                                "Crawling Error PageUrl : " + pageUrl + " \n Error 4xx Status Code : "
-                                        + clientResponse.statusCode());
-                        throw new RuntimeException("4xx");
-                    })
-                    .onStatus(HttpStatus::is5xxServerError, clientResponse -> {
-                        Sentry.captureMessage(
-                                "Crawling Error PageUrl : " + pageUrl + " \n Error 5xx Status Code : "
-                                        + clientResponse.statusCode());
-                        throw new RuntimeException("5xx");
-                    })
-                    .bodyToMono(WebClientResponse.class)
-                    .block();
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-            return objectMapper.readValue(
-                    webClientResponse != null ? webClientResponse.getBody() : null,
-                    WebClientBodyResponse.class);
-
-
-        } catch (Exception e) {
-            return null;
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return Mono.defer(() -> crawlingWebClient.post()
+                            .uri(crawlingApiEndPoint)
+                            .bodyValue(bodyMap)
+                            .retrieve()
+                            .onStatus(HttpStatus::is4xxClientError, clientResponse -> {
+                                Sentry.captureMessage(
+                                        "Crawling Error PageUrl : " + pageUrl + " \n Error 4xx Status Code : "
+                                                + clientResponse.statusCode());
+                                throw new CrawlingClientException("4xx");
+                            })
+                            .onStatus(HttpStatus::is5xxServerError, clientResponse -> {
+                                Sentry.captureMessage(
+                                        "Crawling Error PageUrl : " + pageUrl + " \n Error 5xx Status Code : "
+                                                + clientResponse.statusCode());
+                                throw new CrawlingServerException("5xx");
+                            })
+                            .bodyToMono(WebClientResponse.class))
+                    .flatMap(webClientResponse -> webClientResponse.getBody() == null ? Mono.empty()
+                            : Mono.fromCallable(
+                                    () -> crawlingBodyReader.<WebClientBodyResponse>readValue(
+                                            webClientResponse.getBody())))
+                    .transformDeferred(CircuitBreakerOperator.of(crawlingCircuitBreaker))
+                    .transformDeferred(BulkheadOperator.of(crawlingBulkhead))
+                    .doOnSuccess(crawlingResponse -> sample.stop(crawlingTimer(
+                            crawlingResponse == null ? "empty" : "success",
+                            crawlingResponse == null ? "none" : typeTag(crawlingResponse.getType()))))
+                    .doOnError(e -> sample.stop(crawlingTimer(outcomeTag(e), "none")))
+                    .onErrorResume(e -> Mono.empty());
+        });
+    }
+
+    private Timer crawlingTimer(String outcome, String type) {
+        return Timer.builder("crawling.client.requests")
+                .description("크롤링 서버 호출 시간")
+                .tag("outcome", outcome)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static String typeTag(String type) {
+        if (type == null) {
+            return "none";
         }
+        return KNOWN_TYPES.contains(type) ? type : "unknown";
+    }
 
+    private static String outcomeTag(Throwable e) {
+        if (e instanceof CrawlingClientException) {
+            return "4xx";
+        }
+        if (e instanceof CrawlingServerException) {
+            return "5xx";
+        }
+        if (e instanceof JsonProcessingException) {
+            return "parse_failure";
+        }
+        if (e instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (e instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof ConnectTimeoutException) {
+                return "timeout";
+            }
+        }
+        return "error";
     }
 }
@@ -0,0 +1,79 @@
+package com.forever.dadamda.service.counter;
+
+import com.forever.dadamda.repository.UserRepository;
+import com.forever.dadamda.service.JobLockService;
+import io.sentry.Sentry;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class UserCounterReconciliationService {
+
+    private static final String JOB_NAME = "user-counter-reconciliation";
+
+    private final UserRepository userRepository;
+    private final UserCounterService userCounterService;
+    private final JobLockService jobLockService;
+
+    @Value("${scrap.counter-reconciliation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scrap.counter-reconciliation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${scrap.counter-reconciliation.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${scrap.counter-reconciliation.lease-minutes:10}")
+    private long leaseMinutes;
+
+    /**
+     * 사용자별 스크랩, 보드 개수를 실제 개수와 비교해서 어긋난 개수(drift)를 고친다.
+     * user_id 순서(keyset)로 batchSize명씩 처리하고, 처리한 위치를 저장해서 중단되어도 이어서 실행한다.
+     */
+    @Scheduled(initialDelayString = "${scrap.counter-reconciliation.initial-delay-millis:120000}",
+            fixedDelayString = "${scrap.counter-reconciliation.fixed-delay-millis:3600000}")
+    public void reconcileCounters() {
+        if (!enabled) {
+            return;
+        }
+
+        Duration leaseDuration = Duration.ofMinutes(leaseMinutes);
+        jobLockService.createIfAbsent(JOB_NAME);
+        if (!jobLockService.tryAcquire(JOB_NAME, leaseDuration)) {
+            return;
+        }
+
+        try {
+            Long lastUserId = jobLockService.getCheckpoint(JOB_NAME);
+
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<Long> userIds = userRepository.findUserIdsAfter(
+                        lastUserId == null ? 0L : lastUserId, PageRequest.of(0, batchSize));
+
+                // 끝까지 처리했으면 다음 실행은 처음부터 시작한다.
+                if (userIds.isEmpty()) {
+                    jobLockService.renew(JOB_NAME, leaseDuration, null);
+                    return;
+                }
+
+                userCounterService.reconcile(userIds);
+
+                lastUserId = userIds.get(userIds.size() - 1);
+                if (!jobLockService.renew(JOB_NAME, leaseDuration, lastUserId)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            Sentry.captureException(e);
+        } finally {
+            jobLockService.release(JOB_NAME);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.forever.dadamda.service.counter;
+
+import com.forever.dadamda.dto.counter.UserItemCount;
+import com.forever.dadamda.entity.counter.UserCounter;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.repository.UserCounterRepository;
+import com.forever.dadamda.repository.board.BoardRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자별 타입별 스크랩, 보드 개수를 관리한다.
+ * 새 회원은 가입할 때 row를 만든다. 개수 row가 아직 없는 기존 사용자는 COUNT 쿼리로 계산하고, 보정 작업(reconcile)이 row를 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserCounterService {
+
+    public static final String BOARD = "Board";
+    public static final List<String> SCRAP_TYPES = List.of("Video", "Article", "Product",
+            "Place", "Other");
+    private static final List<String> ALL_TYPES = Stream.concat(SCRAP_TYPES.stream(),
+            Stream.of(BOARD)).collect(Collectors.toUnmodifiableList());
+
+    private final UserCounterRepository userCounterRepository;
+    private final ScrapRepository scrapRepository;
+    private final BoardRepository boardRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public static String typeOf(Scrap scrap) {
+        return Hibernate.getClass(scrap).getSimpleName();
+    }
+
+    /**
+     * 새 회원의 타입별 개수 row를 0으로 만든다. (가입한 뒤의 증감이 처음부터 row에 반영된다)
+     */
+    @Transactional
+    public void createCounters(Long userId) {
+        userCounterRepository.saveAll(ALL_TYPES.stream()
+                .map(dType -> new UserCounter(userId, dType, 0L))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 스크랩, 보드를 추가/삭제하는 트랜잭션 안에서 호출해서 같이 커밋되도록 한다.
+     */
+    @Transactional
+    public void increase(Long userId, String dType) {
+        userCounterRepository.addItemCount(userId, dType, 1);
+    }
+
+    @Transactional
+    public void decrease(Long userId, String dType) {
+        userCounterRepository.addItemCount(userId, dType, -1);
+    }
+
+    @Transactional
+    public void increaseAll(Long userId, Map<String, Long> itemCounts) {
+        itemCounts.forEach((dType, itemCount) ->
+                userCounterRepository.addItemCount(userId, dType, itemCount));
+    }
+
+    /**
+     * 임시 스크랩(Other)이 크롤링 후 다른 타입으로 바뀐 경우
+     */
+    @Transactional
+    public void move(Long userId, String fromDType, String toDType) {
+        if (fromDType.equals(toDType)) {
+            return;
+        }
+
+        userCounterRepository.addItemCount(userId, fromDType, -1);
+        userCounterRepository.addItemCount(userId, toDType, 1);
+    }
+
+    @Transactional(readOnly = true)
+    public long getItemCount(Long userId, String dType) {
+        return userCounterRepository.findByUserIdAndDType(userId, dType)
+                .map(UserCounter::getItemCount)
+                .orElseGet(() -> countItems(userId, dType));
+    }
+
+    @Transactional(readOnly = true)
+    public long getScrapCount(Long userId) {
+        return findItemCounts(userId, SCRAP_TYPES).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * 모든 타입별 스크랩 개수와 보드 개수를 한번에 조회한다. (대시보드 요약)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getItemCounts(Long userId) {
+        return findItemCounts(userId, ALL_TYPES);
+    }
+
+    /**
+     * 없는 row를 만들고 실제 스크랩, 보드 개수와 다른 row를 고친다. 고친 row 수를 반환한다.
+     * row가 커밋되기 전의 증감은 반영되지 않으므로, 없는 row를 먼저 만들어 커밋한 뒤 다시 COUNT해서 고친다.
+     */
+    public int reconcile(List<Long> userIds) {
+        transactionTemplate.executeWithoutResult(status -> createMissingCounters(userIds));
+
+        Integer reconciledCount = transactionTemplate.execute(
+                status -> repairCounters(userIds));
+        meterRegistry.counter("user.counter.reconciled").increment(reconciledCount);
+        return reconciledCount;
+    }
+
+    private void createMissingCounters(List<Long> userIds) {
+        Set<String> counterKeys = userCounterRepository.findAllByUserIdIn(userIds).stream()
+                .map(counter -> key(counter.getUserId(), counter.getDType()))
+                .collect(Collectors.toSet());
+
+        List<UserCounter> newCounters = new ArrayList<>();
+        Map<String, Long> itemCounts = null;
+        for (Long userId : userIds) {
+            for (String dType : ALL_TYPES) {
+                if (counterKeys.contains(key(userId, dType))) {
+                    continue;
+                }
+
+                if (itemCounts == null) {
+                    itemCounts = countAllItems(userIds);
+                }
+                newCounters.add(new UserCounter(userId, dType,
+                        itemCounts.getOrDefault(key(userId, dType), 0L)));
+            }
+        }
+        userCounterRepository.saveAll(newCounters);
+    }
+
+    /**
+     * 개수 row를 COUNT보다 먼저 읽고, 그 사이에 다른 트랜잭션이 바꾼 row는 덮어쓰지 않는다. (다음 보정 때 다시 확인한다)
+     */
+    private int repairCounters(List<Long> userIds) {
+        List<UserCounter> counters = userCounterRepository.findAllByUserIdIn(userIds);
+        Map<String, Long> itemCounts = countAllItems(userIds);
+
+        int reconciledCount = 0;
+        for (UserCounter counter : counters) {
+            long itemCount = itemCounts.getOrDefault(
+                    key(counter.getUserId(), counter.getDType()), 0L);
+            if (counter.getItemCount() != itemCount) {
+                reconciledCount += userCounterRepository.compareAndSetItemCount(
+                        counter.getId(), counter.getItemCount(), itemCount);
+            }
+        }
+        return reconciledCount;
+    }
+
+    private Map<String, Long> countAllItems(List<Long> userIds) {
+        Map<String, Long> itemCounts = new HashMap<>();
+        Stream.concat(scrapRepository.countGroupByUserIdAndDType(userIds).stream(),
+                        boardRepository.countGroupByUserId(userIds).stream())
+                .forEach(row -> itemCounts.put(key(row.getUserId(), row.getDType()),
+                        row.getItemCount()));
+        return itemCounts;
+    }
+
+    /**
+     * 개수 row가 없는 스크랩 타입이 있으면 한번의 GROUP BY d_type 쿼리로 계산한다.
+     */
+    private Map<String, Long> findItemCounts(Long userId, List<String> dTypes) {
+        Map<String, Long> counters = userCounterRepository.findAllByUserId(userId).stream()
+                .collect(Collectors.toMap(UserCounter::getDType, UserCounter::getItemCount));
+
+        Map<String, Long> itemCounts = new LinkedHashMap<>();
+        Map<String, Long> scrapCounts = null;
+        for (String dType : dTypes) {
+            Long itemCount = counters.get(dType);
+
+            if (itemCount == null && BOARD.equals(dType)) {
+                itemCount = boardRepository.countByUserIdAndDeletedDateIsNull(userId);
+            } else if (itemCount == null) {
+                if (scrapCounts == null) {
+                    scrapCounts = scrapRepository.countGroupByUserIdAndDType(List.of(userId))
+                            .stream()
+                            .collect(Collectors.toMap(UserItemCount::getDType,
+                                    UserItemCount::getItemCount));
+                }
+                itemCount = scrapCounts.getOrDefault(dType, 0L);
+            }
+
+            itemCounts.put(dType, itemCount);
+        }
+
+        return itemCounts;
+    }
+
+    private long countItems(Long userId, String dType) {
+        return BOARD.equals(dType) ? boardRepository.countByUserIdAndDeletedDateIsNull(userId)
+                : scrapRepository.countByUserIdAndDType(userId, dType);
+    }
+
+    private static String key(Long userId, String dType) {
+        return userId + ":" + dType;
+    }
+}
@@ -2,20 +2,20 @@ package com.forever.dadamda.service.scrap;
 
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.article.GetArticleResponse;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
 import com.forever.dadamda.repository.scrap.article.ArticleRepository;
 import com.forever.dadamda.service.TimeService;
+import com.forever.dadamda.service.counter.UserCounterService;
 import com.forever.dadamda.service.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,12 +25,20 @@ public class ArticleService {
 
     private final ArticleRepository articleRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapListService scrapListService;
+    private final ScrapRepository scrapRepository;
+    private final UserCounterService userCounterService;
 
     @Transactional
     public Article saveArticle(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        Article article = articleRepository.save(buildArticle(crawlingResponse, user, pageUrl));
+        userCounterService.increase(user.getId(), "Article");
 
-        Article article = Article.builder().user(user).pageUrl(pageUrl)
+        return article;
+    }
+
+    public Article buildArticle(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Article.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .description(crawlingResponse.getDescription())
@@ -39,8 +47,26 @@ public class ArticleService {
                 .blogName(crawlingResponse.getBlogName())
                 .publishedDate(TimeService.fromUnixTime(crawlingResponse.getPublishedDate()))
                 .siteName(crawlingResponse.getSiteName()).build();
+    }
 
-        return articleRepository.save(article);
+    @Transactional
+    public Article upgradeArticle(Long scrapId, WebClientBodyResponse crawlingResponse) {
+        scrapRepository.updateDType(scrapId, "Article");
+
+        Article article = articleRepository.findById(scrapId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
+        article.updateCrawlingInfo(crawlingResponse.getTitle(), crawlingResponse.getThumbnailUrl(),
+                crawlingResponse.getDescription(), crawlingResponse.getSiteName());
+        article.updateArticleInfo(crawlingResponse.getAuthor(),
+                crawlingResponse.getAuthorImageUrl(), crawlingResponse.getBlogName(),
+                TimeService.fromUnixTime(crawlingResponse.getPublishedDate()));
+
+        // 임시 스크랩(Other)으로 저장할 때 센 개수를 바뀐 타입으로 옮긴다.
+        if (article.getDeletedDate() == null) {
+            userCounterService.move(article.getUser().getId(), "Other", "Article");
+        }
+
+        return article;
     }
 
     @Transactional
@@ -58,33 +84,35 @@ public class ArticleService {
     @Transactional
     public Long getArticleCount(String email) {
         User user = userService.validateUser(email);
-        return articleRepository.countByUserAndDeletedDateIsNull(user);
+        return userCounterService.getItemCount(user.getId(), "Article");
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetArticleResponse> getArticles(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdDate");
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-                sort);
-
-        Slice<Article> articleSlice = articleRepository.findAllByUserAndDeletedDateIsNull(user,
-                pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
-
-        return articleSlice.map(article -> GetArticleResponse.of(article,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(article)));
+        return scrapListService.getScraps(Article.class, user, null, pageable,
+                GetArticleResponse::of);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetArticleResponse> searchArticles(String email, String keyword,
             Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Article> articleSlice = articleRepository.searchKeywordInArticleOrderByCreatedDateDesc(
-                user, keyword, pageable);
+        return scrapListService.getScraps(Article.class, user, keyword, pageable,
+                GetArticleResponse::of);
+    }
+
+    /**
+     * 커서 기반 목록 조회 (cursor가 없으면 첫 페이지, keyword가 있으면 검색)
+     */
+    @Transactional(readOnly = true)
+    public GetCursorSliceResponse<GetArticleResponse> getArticlesByCursor(String email,
+            String keyword, String cursor, int size) {
+        User user = userService.validateUser(email);
 
-        return articleSlice.map(article -> GetArticleResponse.of(article,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(article)));
+        return scrapListService.getScrapsByCursor(Article.class, user, keyword, cursor, size,
+                GetArticleResponse::of);
     }
 }
@@ -0,0 +1,35 @@
+package com.forever.dadamda.service.scrap;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class BackfillRunner {
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 컬럼 추가 이전에 저장된 행의 빈 컬럼을 최대 maxBatches번 채운다. (한 번 채울 때마다 트랜잭션을 나눈다)
+     * findBatch가 빈 목록을 반환하면 더 이상 채울 행이 없는 것으로 보고 true를 반환한다.
+     */
+    public <T> boolean run(Supplier<List<T>> findBatch, Consumer<T> fill, int maxBatches) {
+        for (int i = 0; i < maxBatches; i++) {
+            Boolean filled = transactionTemplate.execute(status -> {
+                List<T> rows = findBatch.get();
+                rows.forEach(fill);
+                return !rows.isEmpty();
+            });
+
+            if (!Boolean.TRUE.equals(filled)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.repository.scrap.place.PlaceRepository;
+import com.forever.dadamda.util.GeohashUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GeohashBackfillService {
+
+    private final PlaceRepository placeRepository;
+    private final BackfillRunner backfillRunner;
+
+    @Value("${scrap.geohash-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scrap.geohash-backfill.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private volatile boolean done = false;
+
+    /**
+     * 위도, 경도는 있지만 geohash가 없는 장소의 geohash를 채운다.
+     */
+    @Scheduled(initialDelayString = "${scrap.geohash-backfill.initial-delay-millis:90000}",
+            fixedDelayString = "${scrap.geohash-backfill.fixed-delay-millis:300000}")
+    public void backfillGeohash() {
+        if (!enabled || done) {
+            return;
+        }
+
+        done = backfillRunner.run(
+                placeRepository::findTop500ByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull,
+                place -> place.updateGeohash(
+                        GeohashUtils.encode(place.getLatitude(), place.getLongitude())),
+                maxBatchesPerRun);
+    }
+}
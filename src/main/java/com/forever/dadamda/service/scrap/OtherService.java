@@ -2,19 +2,18 @@ package com.forever.dadamda.service.scrap;
 
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.other.GetOtherResponse;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Other;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.other.OtherRepository;
+import com.forever.dadamda.service.counter.UserCounterService;
 import com.forever.dadamda.service.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,18 +23,33 @@ public class OtherService {
 
     private final OtherRepository otherRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapListService scrapListService;
+    private final UserCounterService userCounterService;
 
     @Transactional
     public Other saveOther(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        Other other = otherRepository.save(buildOther(crawlingResponse, user, pageUrl));
+        userCounterService.increase(user.getId(), "Other");
 
-        Other other = Other.builder().user(user).pageUrl(pageUrl)
+        return other;
+    }
+
+    public Other buildOther(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Other.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .description(crawlingResponse.getDescription())
                 .build();
+    }
 
-        return otherRepository.save(other);
+    @Transactional
+    public Other upgradeOther(Long scrapId, WebClientBodyResponse crawlingResponse) {
+        Other other = otherRepository.findById(scrapId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
+        other.updateCrawlingInfo(crawlingResponse.getTitle(), crawlingResponse.getThumbnailUrl(),
+                crawlingResponse.getDescription(), other.getSiteName());
+
+        return other;
     }
 
     @Transactional
@@ -50,32 +64,34 @@ public class OtherService {
     @Transactional
     public Long getOtherCount(String email) {
         User user = userService.validateUser(email);
-        return otherRepository.countByUserAndDeletedDateIsNull(user);
+        return userCounterService.getItemCount(user.getId(), "Other");
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetOtherResponse> getOthers(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdDate");
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-                sort);
-
-        Slice<Other> otherSlice = otherRepository.findAllByUserAndDeletedDateIsNull(user,
-                pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
-
-        return otherSlice.map(other -> GetOtherResponse.of(other,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(other)));
+        return scrapListService.getScraps(Other.class, user, null, pageable,
+                GetOtherResponse::of);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetOtherResponse> searchOthers(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Other> otherSlice = otherRepository.searchKeywordInOtherOrderByCreatedDateDesc(user,
-                keyword, pageable);
+        return scrapListService.getScraps(Other.class, user, keyword, pageable,
+                GetOtherResponse::of);
+    }
+
+    /**
+     * 커서 기반 목록 조회 (cursor가 없으면 첫 페이지, keyword가 있으면 검색)
+     */
+    @Transactional(readOnly = true)
+    public GetCursorSliceResponse<GetOtherResponse> getOthersByCursor(String email,
+            String keyword, String cursor, int size) {
+        User user = userService.validateUser(email);
 
-        return otherSlice.map(other -> GetOtherResponse.of(other,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(other)));
+        return scrapListService.getScrapsByCursor(Other.class, user, keyword, cursor, size,
+                GetOtherResponse::of);
     }
 }
@@ -2,18 +2,31 @@ package com.forever.dadamda.service.scrap;
 
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
+import com.forever.dadamda.dto.scrap.place.GetNearbyPlaceResponse;
+import com.forever.dadamda.dto.scrap.place.GetPlaceClusterResponse;
 import com.forever.dadamda.dto.scrap.place.GetPlaceResponse;
+import com.forever.dadamda.entity.Memo;
 import com.forever.dadamda.entity.scrap.Place;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.MemoRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
 import com.forever.dadamda.repository.scrap.place.PlaceRepository;
+import com.forever.dadamda.service.counter.UserCounterService;
 import com.forever.dadamda.service.user.UserService;
+import com.forever.dadamda.util.GeohashUtils;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,27 +36,38 @@ public class PlaceService {
 
     private final PlaceRepository placeRepository;
     private final UserService userService;
+    private final ScrapListService scrapListService;
     private final MemoRepository memoRepository;
+    private final ScrapRepository scrapRepository;
+    private final UserCounterService userCounterService;
 
-    @Transactional
+    // 주변 장소 조회 시 한번에 조회할 geohash 셀 최대 개수
+    @Value("${scrap.place.nearby.max-geohash-cells:16}")
+    private int maxGeohashCells;
+
+    // 지도 클러스터 조회 시 응답할 클러스터 최대 개수
+    @Value("${scrap.place.cluster.max-clusters:256}")
+    private int maxClusters;
+
+    @Transactional(readOnly = true)
     public Slice<GetPlaceResponse> getPlaces(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdDate");
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-                sort);
-
-        return placeRepository.findAllByUserAndDeletedDateIsNull(user, pageRequest)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP))
-                .map(place -> GetPlaceResponse.of(place,
-                        memoRepository.findMemosByScrapAndDeletedDateIsNull(place)));
+        return scrapListService.getScraps(Place.class, user, null, pageable,
+                GetPlaceResponse::of);
     }
 
     @Transactional
     public Place savePlace(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        Place place = placeRepository.save(buildPlace(crawlingResponse, user, pageUrl));
+        userCounterService.increase(user.getId(), "Place");
+
+        return place;
+    }
 
-        Place place = Place.builder()
-                .user(user).pageUrl(crawlingResponse.getPageUrl())
+    public Place buildPlace(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Place.builder()
+                .user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .description(crawlingResponse.getDescription())
@@ -56,7 +80,132 @@ public class PlaceService {
                 .category(crawlingResponse.getCategory())
                 .siteName(crawlingResponse.getSiteName())
                 .build();
+    }
+
+    @Transactional
+    public Place upgradePlace(Long scrapId, WebClientBodyResponse crawlingResponse) {
+        scrapRepository.updateDType(scrapId, "Place");
+
+        Place place = placeRepository.findById(scrapId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
+        place.updateCrawlingInfo(crawlingResponse.getTitle(), crawlingResponse.getThumbnailUrl(),
+                crawlingResponse.getDescription(), crawlingResponse.getSiteName());
+        place.updatePlaceInfo(crawlingResponse.getAddress(), crawlingResponse.getLatitude(),
+                crawlingResponse.getLongitude(), crawlingResponse.getPhoneNumber(),
+                crawlingResponse.getZipCode(), crawlingResponse.getHomepageUrl(),
+                crawlingResponse.getCategory());
+
+        // 임시 스크랩(Other)으로 저장할 때 센 개수를 바뀐 타입으로 옮긴다.
+        if (place.getDeletedDate() == null) {
+            userCounterService.move(place.getUser().getId(), "Other", "Place");
+        }
+
+        return place;
+    }
+
+    /**
+     * 커서 기반 장소 스크랩 목록 조회 (cursor가 없으면 첫 페이지, keyword가 있으면 검색)
+     */
+    @Transactional(readOnly = true)
+    public GetCursorSliceResponse<GetPlaceResponse> getPlacesByCursor(String email,
+            String keyword, String cursor, int size) {
+        User user = userService.validateUser(email);
+
+        return scrapListService.getScrapsByCursor(Place.class, user, keyword, cursor, size,
+                GetPlaceResponse::of);
+    }
+
+    /**
+     * 기준 지점에서 radius(미터) 안에 있는 장소를 가까운 순서로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<GetNearbyPlaceResponse> getNearbyPlaces(String email, double latitude,
+            double longitude, double radius, int size) {
+        User user = userService.validateUser(email);
+
+        double[] boundingBox = GeohashUtils.boundingBox(latitude, longitude, radius);
+
+        return findNearestPlaces(user, boundingBox, latitude, longitude, radius, size);
+    }
+
+    /**
+     * 위도, 경도 범위 안에 있는 장소를 범위 가운데에서 가까운 순서로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<GetNearbyPlaceResponse> getPlacesInBounds(String email, double minLatitude,
+            double minLongitude, double maxLatitude, double maxLongitude, int size) {
+        User user = userService.validateUser(email);
+
+        validateBounds(minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+        return findNearestPlaces(user,
+                new double[]{minLatitude, minLongitude, maxLatitude, maxLongitude},
+                (minLatitude + maxLatitude) / 2, (minLongitude + maxLongitude) / 2, null, size);
+    }
+
+    /**
+     * 지도 영역 안 장소를 줌 레벨에 맞는 geohash 셀로 묶어서 셀마다 장소 개수와 중심 좌표를 조회한다.
+     * 응답 크기는 영역과 줌 레벨로만 정해지고 장소 개수와는 관계없다.
+     */
+    @Transactional(readOnly = true)
+    public List<GetPlaceClusterResponse> getPlaceClusters(String email, double minLatitude,
+            double minLongitude, double maxLatitude, double maxLongitude, int zoom) {
+        User user = userService.validateUser(email);
+
+        validateBounds(minLatitude, minLongitude, maxLatitude, maxLongitude);
+
+        // 줌 레벨에 비해 영역이 넓으면 셀을 키워서 클러스터가 maxClusters개를 넘지 않게 한다.
+        int precision = GeohashUtils.precisionForZoom(zoom);
+        while (precision > 1 && GeohashUtils.cellCount(minLatitude, minLongitude, maxLatitude,
+                maxLongitude, precision) > maxClusters) {
+            precision--;
+        }
+
+        Set<String> geohashCells = GeohashUtils.coveringCells(minLatitude, minLongitude,
+                maxLatitude, maxLongitude, maxGeohashCells);
+
+        return placeRepository.findPlaceClusters(user, geohashCells, precision, minLatitude,
+                minLongitude, maxLatitude, maxLongitude);
+    }
+
+    private void validateBounds(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude) {
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new InvalidException(ErrorCode.INVALID);
+        }
+    }
+
+    /**
+     * 범위를 덮는 geohash 셀 안에서 범위, 반지름 조건과 거리순 정렬, 개수 제한까지 DB에서 처리한다.
+     * 조회한 장소만 정확한 거리(haversine)를 계산해서 다시 정렬한다. (radius가 null이면 반지름 조건 없음)
+     */
+    private List<GetNearbyPlaceResponse> findNearestPlaces(User user, double[] boundingBox,
+            double latitude, double longitude, Double radius, int size) {
+        Set<String> geohashCells = GeohashUtils.coveringCells(boundingBox[0], boundingBox[1],
+                boundingBox[2], boundingBox[3], maxGeohashCells);
+
+        List<ScrapListRow> places = placeRepository.findNearestPlaces(user, geohashCells,
+                        boundingBox[0], boundingBox[1], boundingBox[2], boundingBox[3], latitude,
+                        longitude, radius, size).stream()
+                .filter(place -> radius == null
+                        || distanceMeters(place, latitude, longitude) <= radius)
+                .collect(Collectors.toList());
+
+        Map<Long, List<Memo>> memos = memoRepository.findMemosGroupedByScrapIds(places.stream()
+                .map(ScrapListRow::getScrapId)
+                .collect(Collectors.toList()));
+
+        return places.stream()
+                .map(place -> GetNearbyPlaceResponse.of(
+                        GetPlaceResponse.of(place,
+                                memos.getOrDefault(place.getScrapId(), List.of())),
+                        Math.round(distanceMeters(place, latitude, longitude))))
+                .sorted(Comparator.comparingLong(GetNearbyPlaceResponse::getDistance))
+                .collect(Collectors.toList());
+    }
 
-        return placeRepository.save(place);
+    private double distanceMeters(ScrapListRow place, double latitude, double longitude) {
+        return GeohashUtils.distanceMeters(latitude, longitude, place.getLatitude().doubleValue(),
+                place.getLongitude().doubleValue());
     }
 }
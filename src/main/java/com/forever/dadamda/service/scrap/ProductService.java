@@ -2,19 +2,19 @@ package com.forever.dadamda.service.scrap;
 
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.product.GetProductResponse;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Product;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
 import com.forever.dadamda.repository.scrap.product.ProductRepository;
+import com.forever.dadamda.service.counter.UserCounterService;
 import com.forever.dadamda.service.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,18 +24,42 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapListService scrapListService;
+    private final ScrapRepository scrapRepository;
+    private final UserCounterService userCounterService;
 
     @Transactional
     public Product saveProduct(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        Product product = productRepository.save(buildProduct(crawlingResponse, user, pageUrl));
+        userCounterService.increase(user.getId(), "Product");
 
-        Product product = Product.builder().user(user).pageUrl(pageUrl)
+        return product;
+    }
+
+    public Product buildProduct(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Product.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .price(crawlingResponse.getPrice())
                 .siteName(crawlingResponse.getSiteName()).build();
+    }
+
+    @Transactional
+    public Product upgradeProduct(Long scrapId, WebClientBodyResponse crawlingResponse) {
+        scrapRepository.updateDType(scrapId, "Product");
+
+        Product product = productRepository.findById(scrapId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
+        product.updateCrawlingInfo(crawlingResponse.getTitle(), crawlingResponse.getThumbnailUrl(),
+                product.getDescription(), crawlingResponse.getSiteName());
+        product.updateProduct(crawlingResponse.getPrice());
+
+        // 임시 스크랩(Other)으로 저장할 때 센 개수를 바뀐 타입으로 옮긴다.
+        if (product.getDeletedDate() == null) {
+            userCounterService.move(product.getUser().getId(), "Other", "Product");
+        }
 
-        return productRepository.save(product);
+        return product;
     }
 
     @Transactional
@@ -51,33 +75,35 @@ public class ProductService {
     @Transactional
     public Long getProductCount(String email) {
         User user = userService.validateUser(email);
-        return productRepository.countByUserAndDeletedDateIsNull(user);
+        return userCounterService.getItemCount(user.getId(), "Product");
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetProductResponse> getProducts(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdDate");
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-                sort);
-
-        Slice<Product> prdouctSlice = productRepository.findAllByUserAndDeletedDateIsNull(user,
-                pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
-
-        return prdouctSlice.map(product -> GetProductResponse.of(product,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(product)));
+        return scrapListService.getScraps(Product.class, user, null, pageable,
+                GetProductResponse::of);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetProductResponse> searchProducts(String email, String keyword,
             Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Product> prdouctSlice = productRepository.searchKeywordInProductOrderByCreatedDateDesc(
-                user, keyword, pageable);
+        return scrapListService.getScraps(Product.class, user, keyword, pageable,
+                GetProductResponse::of);
+    }
+
+    /**
+     * 커서 기반 목록 조회 (cursor가 없으면 첫 페이지, keyword가 있으면 검색)
+     */
+    @Transactional(readOnly = true)
+    public GetCursorSliceResponse<GetProductResponse> getProductsByCursor(String email,
+            String keyword, String cursor, int size) {
+        User user = userService.validateUser(email);
 
-        return prdouctSlice.map(product -> GetProductResponse.of(product,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(product)));
+        return scrapListService.getScrapsByCursor(Product.class, user, keyword, cursor, size,
+                GetProductResponse::of);
     }
 }
@@ -0,0 +1,126 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.CrawlingService;
+import com.forever.dadamda.service.JobLockService;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.sentry.Sentry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+@Service
+@RequiredArgsConstructor
+public class RecrawlingService {
+
+    private static final String JOB_NAME = "recrawling";
+
+    private final ScrapRepository scrapRepository;
+    private final ScrapService scrapService;
+    private final CrawlingService crawlingService;
+    private final JobLockService jobLockService;
+    private final RateLimiter recrawlingRateLimiter;
+    private final ThreadPoolTaskExecutor recrawlingExecutor;
+
+    @Value("${scrap.recrawling.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scrap.recrawling.stale-hours:24}")
+    private long staleHours;
+
+    @Value("${scrap.recrawling.batch-size:100}")
+    private int batchSize;
+
+    @Value("${scrap.recrawling.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${scrap.recrawling.concurrency:4}")
+    private int concurrency;
+
+    @Value("${scrap.recrawling.lease-minutes:10}")
+    private long leaseMinutes;
+
+    /**
+     * 재크롤링은 처리율 제한으로 오래 기다리므로 스케줄 스레드에서는 recrawlingExecutor에 넘기기만 한다.
+     * 이전 실행이 끝나지 않았으면 이번 실행은 건너뛴다.
+     */
+    @Scheduled(initialDelayString = "${scrap.recrawling.initial-delay-millis:300000}",
+            fixedDelayString = "${scrap.recrawling.fixed-delay-millis:600000}")
+    public void scheduleRecrawling() {
+        recrawlingExecutor.execute(this::recrawlStaleScraps);
+    }
+
+    /**
+     * 마지막 크롤링 후 staleHours가 지난 스크랩을 다시 크롤링해서 썸네일, 조회수, 가격을 갱신한다.
+     * 스크랩 목록은 최신순으로 보여주므로 최근 스크랩부터 scrap_id 역순(keyset)으로 batchSize개씩 처리한다.
+     * 여러 서버 중 잠금을 얻은 한 서버만 실행하며, 처리한 위치를 저장해서 중단되어도 이어서 실행한다.
+     */
+    public void recrawlStaleScraps() {
+        if (!enabled) {
+            return;
+        }
+
+        Duration leaseDuration = Duration.ofMinutes(leaseMinutes);
+        jobLockService.createIfAbsent(JOB_NAME);
+        if (!jobLockService.tryAcquire(JOB_NAME, leaseDuration)) {
+            return;
+        }
+
+        try {
+            Long lastScrapId = jobLockService.getCheckpoint(JOB_NAME);
+            LocalDateTime staleDate = LocalDateTime.now().minusHours(staleHours);
+
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<Scrap> scraps = scrapRepository.findStaleScraps(
+                        lastScrapId == null ? Long.MAX_VALUE : lastScrapId, staleDate,
+                        PageRequest.of(0, batchSize));
+
+                // 끝까지 처리했으면 다음 실행은 처음(최신 스크랩)부터 시작한다.
+                if (scraps.isEmpty()) {
+                    jobLockService.renew(JOB_NAME, leaseDuration, null);
+                    return;
+                }
+
+                recrawlScraps(scraps);
+
+                lastScrapId = scraps.get(scraps.size() - 1).getId();
+                if (!jobLockService.renew(JOB_NAME, leaseDuration, lastScrapId)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            Sentry.captureException(e);
+        } finally {
+            jobLockService.release(JOB_NAME);
+        }
+    }
+
+    private void recrawlScraps(List<Scrap> scraps) {
+        Map<Long, WebClientBodyResponse> crawlingResponses = Flux.fromIterable(scraps)
+                .flatMap(scrap -> crawlingService.recrawlingMono(scrap.getPageUrl())
+                                .transformDeferred(RateLimiterOperator.of(recrawlingRateLimiter))
+                                .map(crawlingResponse -> Tuples.of(scrap.getId(), crawlingResponse))
+                                .onErrorResume(e -> Mono.empty()),
+                        concurrency)
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                .block();
+
+        scrapService.refreshScraps(scraps.stream().map(Scrap::getId).collect(Collectors.toList()),
+                crawlingResponses);
+    }
+}
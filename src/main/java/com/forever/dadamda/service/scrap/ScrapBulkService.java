@@ -0,0 +1,136 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.dto.scrap.CreateScrapBulkResponse;
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.CrawlingService;
+import com.forever.dadamda.service.user.UserService;
+import com.forever.dadamda.util.UrlUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sentry.Sentry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@RequiredArgsConstructor
+public class ScrapBulkService {
+
+    private final ScrapRepository scrapRepository;
+    private final UserService userService;
+    private final CrawlingService crawlingService;
+    private final VideoService videoService;
+    private final ArticleService articleService;
+    private final ProductService productService;
+    private final PlaceService placeService;
+    private final OtherService otherService;
+    private final ScrapService scrapService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scrap.bulk.crawling-concurrency:32}")
+    private int crawlingConcurrency;
+
+    @Value("${scrap.bulk.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 여러개의 URL을 한번에 스크랩한다.
+     * 중복 URL은 한번의 쿼리로 걸러내고, 나머지는 동시에 crawlingConcurrency개까지 크롤링한 뒤
+     * batchSize개씩 묶어서 저장한다. URL별 처리 결과는 처리되는 대로 반환한다.
+     */
+    public Flux<CreateScrapBulkResponse> createScrapsBulk(String email, List<String> pageUrls) {
+        User user = userService.validateUser(email);
+
+        List<CreateScrapBulkResponse> duplicatedResponses = new ArrayList<>();
+
+        // 요청 안에서 같은 페이지를 가리키는 URL은 처음 나온 URL만 저장한다.
+        Map<String, String> pageUrlByUrlHash = new LinkedHashMap<>();
+        for (String pageUrl : pageUrls) {
+            if (pageUrlByUrlHash.putIfAbsent(UrlUtils.hash(pageUrl), pageUrl) != null) {
+                duplicatedResponses.add(CreateScrapBulkResponse.duplicated(pageUrl));
+            }
+        }
+
+        Set<String> existentUrlHashes = pageUrlByUrlHash.isEmpty() ? Set.of()
+                : new HashSet<>(scrapRepository.findUrlHashesByUserAndUrlHashIn(user,
+                        pageUrlByUrlHash.keySet()));
+
+        List<String> newPageUrls = new ArrayList<>();
+        pageUrlByUrlHash.forEach((urlHash, pageUrl) -> {
+            if (existentUrlHashes.contains(urlHash)) {
+                duplicatedResponses.add(CreateScrapBulkResponse.duplicated(pageUrl));
+            } else {
+                newPageUrls.add(pageUrl);
+            }
+        });
+
+        Flux<CreateScrapBulkResponse> createdResponses = Flux.fromIterable(newPageUrls)
+                .flatMap(pageUrl -> crawlingService.crawlingMono(pageUrl)
+                                .switchIfEmpty(Mono.fromSupplier(() -> {
+                                    meterRegistry.counter("scrap.save.fallback", "reason",
+                                            "crawling_failed").increment();
+                                    return new WebClientBodyResponse();
+                                }))
+                                .map(crawlingResponse -> buildScrap(crawlingResponse, user, pageUrl)),
+                        crawlingConcurrency)
+                .buffer(batchSize)
+                .publishOn(Schedulers.boundedElastic())
+                .concatMapIterable(scraps -> saveScraps(user, scraps));
+
+        return Flux.fromIterable(duplicatedResponses).concatWith(createdResponses);
+    }
+
+    private Scrap buildScrap(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        String type = crawlingResponse.getType() == null ? "" : crawlingResponse.getType();
+        switch (type) {
+            case "video":
+                return videoService.buildVideo(crawlingResponse, user, pageUrl);
+            case "article":
+                return articleService.buildArticle(crawlingResponse, user, pageUrl);
+            case "product":
+                return productService.buildProduct(crawlingResponse, user, pageUrl);
+            case "place":
+                return placeService.buildPlace(crawlingResponse, user, pageUrl);
+            default:
+                return otherService.buildOther(crawlingResponse, user, pageUrl);
+        }
+    }
+
+    /**
+     * batchSize개를 한번에 저장하고, 실패하면 한 개씩 다시 저장해서 저장할 수 없는 URL만 실패로 응답한다.
+     */
+    private List<CreateScrapBulkResponse> saveScraps(User user, List<Scrap> scraps) {
+        try {
+            return scrapService.saveAllScraps(user, scraps).stream()
+                    .map(CreateScrapBulkResponse::created)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            return scraps.stream()
+                    .map(scrap -> saveScrap(user, scrap))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private CreateScrapBulkResponse saveScrap(User user, Scrap scrap) {
+        try {
+            return CreateScrapBulkResponse.created(
+                    scrapService.saveAllScraps(user, List.of(scrap)).get(0));
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            return CreateScrapBulkResponse.failed(scrap.getPageUrl());
+        }
+    }
+}
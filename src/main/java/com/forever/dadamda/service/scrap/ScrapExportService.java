@@ -0,0 +1,208 @@
+package com.forever.dadamda.service.scrap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forever.dadamda.dto.memo.GetMemoResponse;
+import com.forever.dadamda.dto.scrap.ExportScrapResponse;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.service.TimeService;
+import com.forever.dadamda.service.user.UserService;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 사용자의 전체 스크랩을 메모와 함께 NDJSON 또는 CSV로 내보낸다.
+ * 한번의 JOIN 쿼리 결과를 JDBC 커서로 한 행씩 읽으면서 바로 쓰기 때문에, 스크랩 개수와 관계없이 메모리는 스크랩 1개 분량만 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScrapExportService {
+
+    public static final String NDJSON = "ndjson";
+    public static final String CSV = "csv";
+
+    // scrap_id 순서로 읽어서 같은 스크랩의 메모가 연속된 행으로 오도록 한다.
+    private static final String EXPORT_QUERY = "SELECT s.scrap_id, s.d_type, s.page_url, s.title, "
+            + "s.description, s.site_name, s.thumbnail_url, s.created_date, "
+            + "m.memo_id, m.memo_text, m.memo_image_url, m.created_date AS memo_created_date "
+            + "FROM scrap s LEFT JOIN memo m ON m.scrap_id = s.scrap_id AND m.deleted_date IS NULL "
+            + "WHERE s.user_id = ? AND s.deleted_date IS NULL "
+            + "ORDER BY s.scrap_id, m.memo_id";
+
+    private static final List<String> CSV_HEADER = List.of("scrap_id", "type", "page_url",
+            "title", "description", "site_name", "thumbnail_url", "created_date", "memos");
+
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // MySQL은 Integer.MIN_VALUE일 때 결과를 한번에 받지 않고 한 행씩 스트리밍한다.
+    @Value("${scrap.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    /**
+     * 사용자 확인은 요청 스레드에서 하고, 쿼리와 응답 쓰기는 MVC 비동기 스레드에서 실행한다.
+     */
+    public StreamingResponseBody exportScraps(String email, String format) {
+        User user = userService.validateUser(email);
+        Long userId = user.getId();
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+            try {
+                if (CSV.equals(format)) {
+                    // 엑셀에서 한글이 깨지지 않도록 BOM을 붙인다.
+                    writer.write('\uFEFF');
+                    writeCsvLine(writer, CSV_HEADER);
+                    streamScraps(userId, scrap -> writeCsv(writer, scrap));
+                } else {
+                    streamScraps(userId, scrap -> writeNdjson(writer, scrap));
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            writer.flush();
+        };
+    }
+
+    private void streamScraps(Long userId, ScrapWriter scrapWriter) {
+        ScrapRowCallbackHandler rowCallbackHandler = new ScrapRowCallbackHandler(scrapWriter);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(EXPORT_QUERY,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(fetchSize);
+            preparedStatement.setLong(1, userId);
+            return preparedStatement;
+        }, rowCallbackHandler);
+
+        rowCallbackHandler.flush();
+    }
+
+    private void writeNdjson(Writer writer, ExportScrapResponse scrap) throws IOException {
+        writer.write(objectMapper.writeValueAsString(scrap));
+        writer.write('\n');
+    }
+
+    private void writeCsv(Writer writer, ExportScrapResponse scrap) throws IOException {
+        String memos = scrap.getMemos().stream()
+                .map(memo -> memo.getMemoText() != null ? memo.getMemoText()
+                        : memo.getMemoImageUrl())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("\n"));
+
+        writeCsvLine(writer, Stream.of(scrap.getScrapId(), scrap.getType(), scrap.getPageUrl(),
+                        scrap.getTitle(), scrap.getDescription(), scrap.getSiteName(),
+                        scrap.getThumbnailUrl(), scrap.getCreatedDate(), memos)
+                .map(value -> value == null ? "" : String.valueOf(value))
+                .collect(Collectors.toList()));
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        writer.write(values.stream()
+                .map(ScrapExportService::escapeCsv)
+                .collect(Collectors.joining(",")));
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 형식으로 감싸고, 엑셀에서 수식으로 실행되지 않도록 =, +, -, @로 시작하는 값 앞에 '를 붙인다.
+     */
+    static String escapeCsv(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")
+                || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface ScrapWriter {
+
+        void write(ExportScrapResponse scrap) throws IOException;
+    }
+
+    /**
+     * scrap_id가 바뀔 때마다 앞의 스크랩을 메모와 함께 쓴다.
+     */
+    private static class ScrapRowCallbackHandler implements RowCallbackHandler {
+
+        private final ScrapWriter scrapWriter;
+        private ExportScrapResponse currentScrap;
+
+        private ScrapRowCallbackHandler(ScrapWriter scrapWriter) {
+            this.scrapWriter = scrapWriter;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            long scrapId = resultSet.getLong("scrap_id");
+
+            if (currentScrap == null || currentScrap.getScrapId() != scrapId) {
+                flush();
+                currentScrap = ExportScrapResponse.builder()
+                        .scrapId(scrapId)
+                        .type(resultSet.getString("d_type").toLowerCase(Locale.ROOT))
+                        .pageUrl(resultSet.getString("page_url"))
+                        .title(resultSet.getString("title"))
+                        .description(resultSet.getString("description"))
+                        .siteName(resultSet.getString("site_name"))
+                        .thumbnailUrl(resultSet.getString("thumbnail_url"))
+                        .createdDate(TimeService.fromLocalDateTime(
+                                resultSet.getObject("created_date", LocalDateTime.class)))
+                        .build();
+            }
+
+            long memoId = resultSet.getLong("memo_id");
+            if (!resultSet.wasNull()) {
+                currentScrap.getMemos().add(GetMemoResponse.builder()
+                        .memoId(memoId)
+                        .memoText(resultSet.getString("memo_text"))
+                        .memoImageUrl(resultSet.getString("memo_image_url"))
+                        .createdDate(TimeService.fromLocalDateTime(
+                                resultSet.getObject("memo_created_date", LocalDateTime.class)))
+                        .build());
+            }
+        }
+
+        private void flush() {
+            if (currentScrap == null) {
+                return;
+            }
+
+            try {
+                scrapWriter.write(currentScrap);
+            } catch (IOException e) {
+                // 클라이언트 연결이 끊기면 쿼리를 중단한다.
+                throw new UncheckedIOException(e);
+            }
+            currentScrap = null;
+        }
+    }
+}
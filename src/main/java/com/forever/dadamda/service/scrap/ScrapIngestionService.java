@@ -0,0 +1,58 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.service.CrawlingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sentry.Sentry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ScrapIngestionService {
+
+    private final CrawlingService crawlingService;
+    private final VideoService videoService;
+    private final ArticleService articleService;
+    private final ProductService productService;
+    private final PlaceService placeService;
+    private final OtherService otherService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 임시로 저장된 Other 스크랩을 크롤링 결과에 맞는 타입으로 변경한다.
+     * 크롤링에 실패하면 임시 스크랩을 그대로 둔다.
+     */
+    @Async("scrapIngestionExecutor")
+    public void ingestScraps(Long scrapId, String pageUrl) {
+        WebClientBodyResponse crawlingResponse = crawlingService.crawling(pageUrl);
+
+        if (crawlingResponse == null) {
+            meterRegistry.counter("scrap.save.fallback", "reason", "crawling_failed").increment();
+            return;
+        }
+
+        try {
+            String type = crawlingResponse.getType() == null ? "" : crawlingResponse.getType();
+            switch (type) {
+                case "video":
+                    videoService.upgradeVideo(scrapId, crawlingResponse);
+                    return;
+                case "article":
+                    articleService.upgradeArticle(scrapId, crawlingResponse);
+                    return;
+                case "product":
+                    productService.upgradeProduct(scrapId, crawlingResponse);
+                    return;
+                case "place":
+                    placeService.upgradePlace(scrapId, crawlingResponse);
+                    return;
+                default:
+                    otherService.upgradeOther(scrapId, crawlingResponse);
+            }
+        } catch (Exception e) {
+            Sentry.captureException(e);
+        }
+    }
+}
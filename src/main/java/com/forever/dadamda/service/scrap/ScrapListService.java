@@ -0,0 +1,73 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
+import com.forever.dadamda.dto.scrap.ScrapCursor;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
+import com.forever.dadamda.entity.Memo;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.MemoRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스크랩 타입별 목록 조회 (type이 Scrap이면 모든 타입을 조회한다)
+ * 엔티티 대신 ScrapListRow 프로젝션으로 조회하고, 페이지의 메모를 한번에 붙여서 응답으로 바꾼다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScrapListService {
+
+    private final ScrapRepository scrapRepository;
+    private final MemoRepository memoRepository;
+
+    /**
+     * 페이지 번호 기반 목록 조회 (keyword가 있으면 검색)
+     */
+    @Transactional(readOnly = true)
+    public <R> Slice<R> getScraps(Class<? extends Scrap> type, User user, String keyword,
+            Pageable pageable, BiFunction<ScrapListRow, List<Memo>, R> toResponse) {
+        Slice<ScrapListRow> scrapSlice = scrapRepository.findScrapListRows(type, user,
+                toSearchKeyword(keyword), pageable);
+
+        return toResponses(scrapSlice, toResponse);
+    }
+
+    /**
+     * cursor 다음 스크랩을 size개 조회한다.
+     * cursor가 없으면 첫 페이지를, keyword가 있으면 검색 결과를 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public <R> GetCursorSliceResponse<R> getScrapsByCursor(Class<? extends Scrap> type,
+            User user, String keyword, String cursor, int size,
+            BiFunction<ScrapListRow, List<Memo>, R> toResponse) {
+        Slice<ScrapListRow> scrapSlice = scrapRepository.findScrapListRowsByCursor(type, user,
+                toSearchKeyword(keyword), ScrapCursor.decode(cursor), size);
+
+        return GetCursorSliceResponse.of(toResponses(scrapSlice, toResponse),
+                ScrapCursor.next(scrapSlice));
+    }
+
+    private String toSearchKeyword(String keyword) {
+        return keyword == null || keyword.isBlank() ? null : keyword;
+    }
+
+    private <R> Slice<R> toResponses(Slice<ScrapListRow> scrapSlice,
+            BiFunction<ScrapListRow, List<Memo>, R> toResponse) {
+        List<Long> scrapIds = scrapSlice.getContent().stream()
+                .map(ScrapListRow::getScrapId)
+                .collect(Collectors.toList());
+        Map<Long, List<Memo>> memos = memoRepository.findMemosGroupedByScrapIds(scrapIds);
+
+        return scrapSlice.map(scrapListRow -> toResponse.apply(scrapListRow,
+                memos.getOrDefault(scrapListRow.getScrapId(), List.of())));
+    }
+}
@@ -2,28 +2,42 @@ package com.forever.dadamda.service.scrap;
 
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.dto.scrap.CreateScrapAsyncResponse;
 import com.forever.dadamda.dto.scrap.CreateScrapResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.GetScrapResponse;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
+import com.forever.dadamda.entity.scrap.Other;
+import com.forever.dadamda.entity.scrap.Product;
 import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.ScrapRepository;
-import com.forever.dadamda.service.WebClientService;
+import com.forever.dadamda.service.CrawlingService;
+import com.forever.dadamda.service.counter.UserCounterService;
 import com.forever.dadamda.service.user.UserService;
+import com.forever.dadamda.util.UrlUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.sentry.Sentry;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import net.minidev.json.parser.ParseException;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -34,20 +48,22 @@ public class ScrapService {
     private final ArticleService articleService;
     private final ProductService productService;
     private final OtherService otherService;
-    private final WebClientService webClientService;
+    private final CrawlingService crawlingService;
     private final UserService userService;
+    private final ScrapListService scrapListService;
     private final PlaceService placeService;
-    private final MemoRepository memoRepository;
+    private final ScrapIngestionService scrapIngestionService;
+    private final MeterRegistry meterRegistry;
+    private final UserCounterService userCounterService;
 
-    @Value("${crawling.server.post.api.endPoint}")
-    private String crawlingApiEndPoint;
-
-    @Transactional
+    /**
+     * 크롤링 중에 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다. (저장만 트랜잭션으로 실행)
+     */
     public CreateScrapResponse createScraps(String email, String pageUrl) throws ParseException {
         User user = userService.validateUser(email);
 
-        boolean isPresentItem = scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(pageUrl,
-                user).isPresent();
+        boolean isPresentItem = scrapRepository.findFirstByUserAndUrlHashAndDeletedDateIsNull(user,
+                UrlUtils.hash(pageUrl)).isPresent();
         if (isPresentItem) {
             throw new InvalidException(ErrorCode.INVALID_DUPLICATED_SCRAP);
         }
@@ -58,17 +74,46 @@ public class ScrapService {
     }
 
     @Transactional
+    public CreateScrapAsyncResponse createScrapsAsync(String email, String pageUrl) {
+        User user = userService.validateUser(email);
+
+        boolean isPresentItem = scrapRepository.findFirstByUserAndUrlHashAndDeletedDateIsNull(user,
+                UrlUtils.hash(pageUrl)).isPresent();
+        if (isPresentItem) {
+            throw new InvalidException(ErrorCode.INVALID_DUPLICATED_SCRAP);
+        }
+
+        Other other = otherService.saveOther(new WebClientBodyResponse(), user, pageUrl);
+        Long scrapId = other.getId();
+
+        // 커밋 이후에 크롤링을 시작해야 작업 스레드에서 임시 스크랩을 조회할 수 있다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    scrapIngestionService.ingestScraps(scrapId, pageUrl);
+                } catch (TaskRejectedException e) {
+                    Sentry.captureException(e);
+                }
+            }
+        });
+
+        return CreateScrapAsyncResponse.of(scrapId, pageUrl);
+    }
+
+    /**
+     * 트랜잭션 밖에서 크롤링한 뒤, 타입별 스크랩 저장만 트랜잭션으로 실행한다.
+     * 크롤링, 저장 시간은 단계(step)와 저장된 스크랩 타입(type)별로 scrap.save 지표에 기록한다.
+     */
     public Scrap saveScraps(User user, String pageUrl) throws ParseException {
-        WebClientBodyResponse crawlingResponse = webClientService.crawlingItem(crawlingApiEndPoint, pageUrl);
+        long crawlingStartTime = System.nanoTime();
+        WebClientBodyResponse crawlingResponse = crawlingService.crawling(pageUrl);
+        long crawlingTime = System.nanoTime() - crawlingStartTime;
 
-        return Optional.ofNullable(crawlingResponse)
+        long persistStartTime = System.nanoTime();
+        Scrap scrap = Optional.ofNullable(crawlingResponse)
                 .map(response -> {
-                    String type = response.getType();
-                    if(response.getDescription() != null) {
-                        if(response.getDescription().length() > 1000) {
-                            response.setDescription(response.getDescription().substring(0, 1000));
-                        }
-                    }
+                    String type = response.getType() == null ? "" : response.getType();
                     switch (type) {
                         case "video":
                             return videoService.saveVideo(response, user, pageUrl);
@@ -78,11 +123,77 @@ public class ScrapService {
                             return productService.saveProduct(response, user, pageUrl);
                         case "place":
                             return placeService.savePlace(response, user, pageUrl);
+                        case "other":
+                            return otherService.saveOther(response, user, pageUrl);
                         default:
+                            countFallback("unknown_type");
                             return otherService.saveOther(response, user, pageUrl);
                     }
                 })
-                .orElseGet(() -> otherService.saveOther(new WebClientBodyResponse(), user, pageUrl));
+                .orElseGet(() -> {
+                    countFallback("crawling_failed");
+                    return otherService.saveOther(new WebClientBodyResponse(), user, pageUrl);
+                });
+        long persistTime = System.nanoTime() - persistStartTime;
+
+        String scrapType = scrap.getClass().getSimpleName().toLowerCase(Locale.ROOT);
+        saveTimer("crawling", scrapType).record(crawlingTime, TimeUnit.NANOSECONDS);
+        saveTimer("persist", scrapType).record(persistTime, TimeUnit.NANOSECONDS);
+
+        return scrap;
+    }
+
+    private Timer saveTimer(String step, String type) {
+        return Timer.builder("scrap.save")
+                .description("스크랩 추가 단계별 시간")
+                .tag("step", step)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private void countFallback(String reason) {
+        meterRegistry.counter("scrap.save.fallback", "reason", reason).increment();
+    }
+
+    /**
+     * 다시 크롤링한 결과로 썸네일, 조회수(Video), 가격(Product)을 갱신한다.
+     * 크롤링에 실패한 스크랩도 crawledDate를 갱신해서 바로 다시 크롤링하지 않도록 한다.
+     */
+    @Transactional
+    public void refreshScraps(List<Long> scrapIds,
+            Map<Long, WebClientBodyResponse> crawlingResponses) {
+        LocalDateTime now = LocalDateTime.now();
+
+        scrapRepository.findAllById(scrapIds).forEach(scrap -> {
+            WebClientBodyResponse crawlingResponse = crawlingResponses.get(scrap.getId());
+            if (crawlingResponse == null) {
+                scrap.updateRecrawlingInfo(null, now);
+                return;
+            }
+
+            scrap.updateRecrawlingInfo(crawlingResponse.getThumbnailUrl(), now);
+            if (scrap instanceof Video) {
+                ((Video) scrap).updateWatchedCnt(crawlingResponse.getWatchedCnt());
+            } else if (scrap instanceof Product && crawlingResponse.getPrice() != null) {
+                ((Product) scrap).updateProduct(crawlingResponse.getPrice());
+            }
+        });
+    }
+
+    /**
+     * 일괄 추가한 스크랩을 한번에 저장하고, 같은 트랜잭션에서 타입별 개수를 늘린다.
+     */
+    @Transactional
+    public List<Scrap> saveAllScraps(User user, List<Scrap> scraps) {
+        List<Scrap> savedScraps = scrapRepository.saveAll(scraps);
+
+        userCounterService.increaseAll(user.getId(), savedScraps.stream()
+                .collect(Collectors.groupingBy(UserCounterService::typeOf,
+                        Collectors.counting())));
+
+        return savedScraps;
     }
 
     @Transactional
@@ -93,22 +204,15 @@ public class ScrapService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
 
         item.updateDeletedDate(LocalDateTime.now());
+        userCounterService.decrease(user.getId(), UserCounterService.typeOf(item));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetScrapResponse> getScraps(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdDate");
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-                sort);
-
-        Slice<Scrap> scrapSlice = scrapRepository.findAllByUserAndDeletedDateIsNull(user,
-                pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
-
-        return scrapSlice.map(scrap -> GetScrapResponse.of(scrap,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(scrap))
-        );
+        return scrapListService.getScraps(Scrap.class, user, null, pageable,
+                GetScrapResponse::of);
     }
 
     @Transactional
@@ -133,17 +237,26 @@ public class ScrapService {
     @Transactional
     public Long getScrapCount(String email) {
         User user = userService.validateUser(email);
-        return scrapRepository.countByUserAndDeletedDateIsNull(user);
+        return userCounterService.getScrapCount(user.getId());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetScrapResponse> searchScraps(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Scrap> scrapSlice = scrapRepository.searchKeywordInScrapOrderByCreatedDateDesc(user,
-                keyword, pageable);
+        return scrapListService.getScraps(Scrap.class, user, keyword, pageable,
+                GetScrapResponse::of);
+    }
+
+    /**
+     * 커서 기반 목록 조회 (cursor가 없으면 첫 페이지, keyword가 있으면 검색)
+     */
+    @Transactional(readOnly = true)
+    public GetCursorSliceResponse<GetScrapResponse> getScrapsByCursor(String email,
+            String keyword, String cursor, int size) {
+        User user = userService.validateUser(email);
 
-        return scrapSlice.map(scrap -> GetScrapResponse.of(scrap,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(scrap)));
+        return scrapListService.getScrapsByCursor(Scrap.class, user, keyword, cursor, size,
+                GetScrapResponse::of);
     }
 }
@@ -0,0 +1,40 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.util.UrlUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class UrlHashBackfillService {
+
+    private final ScrapRepository scrapRepository;
+    private final BackfillRunner backfillRunner;
+
+    @Value("${scrap.url-hash-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scrap.url-hash-backfill.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private volatile boolean done = false;
+
+    /**
+     * url_hash 컬럼 추가 이전에 저장된 스크랩의 url_hash를 채운다.
+     * 더 이상 채울 스크랩이 없으면 다시 조회하지 않는다.
+     */
+    @Scheduled(initialDelayString = "${scrap.url-hash-backfill.initial-delay-millis:60000}",
+            fixedDelayString = "${scrap.url-hash-backfill.fixed-delay-millis:300000}")
+    public void backfillUrlHash() {
+        if (!enabled || done) {
+            return;
+        }
+
+        done = backfillRunner.run(scrapRepository::findTop500ByUrlHashIsNull,
+                scrap -> scrap.updateUrlHash(UrlUtils.hash(scrap.getPageUrl())),
+                maxBatchesPerRun);
+    }
+}
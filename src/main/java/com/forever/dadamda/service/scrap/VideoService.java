@@ -2,20 +2,20 @@ package com.forever.dadamda.service.scrap;
 
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.video.GetVideoResponse;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
 import com.forever.dadamda.repository.scrap.video.VideoRepository;
 import com.forever.dadamda.service.TimeService;
+import com.forever.dadamda.service.counter.UserCounterService;
 import com.forever.dadamda.service.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,7 +25,9 @@ public class VideoService {
 
     private final VideoRepository videoRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapListService scrapListService;
+    private final ScrapRepository scrapRepository;
+    private final UserCounterService userCounterService;
 
     public static String formatViewCount(long count) {
         if (count >= 100000000) {
@@ -75,8 +77,14 @@ public class VideoService {
 
     @Transactional
     public Video saveVideo(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        Video video = videoRepository.save(buildVideo(crawlingResponse, user, pageUrl));
+        userCounterService.increase(user.getId(), "Video");
 
-        Video video = Video.builder().user(user).pageUrl(pageUrl)
+        return video;
+    }
+
+    public Video buildVideo(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Video.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .description(crawlingResponse.getDescription())
@@ -88,8 +96,27 @@ public class VideoService {
                 .publishedDate(TimeService.fromUnixTime(crawlingResponse.getPublishedDate()))
                 .siteName(crawlingResponse.getSiteName())
                 .build();
+    }
+
+    @Transactional
+    public Video upgradeVideo(Long scrapId, WebClientBodyResponse crawlingResponse) {
+        scrapRepository.updateDType(scrapId, "Video");
+
+        Video video = videoRepository.findById(scrapId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
+        video.updateCrawlingInfo(crawlingResponse.getTitle(), crawlingResponse.getThumbnailUrl(),
+                crawlingResponse.getDescription(), crawlingResponse.getSiteName());
+        video.updateVideoInfo(crawlingResponse.getEmbedUrl(), crawlingResponse.getChannelName(),
+                crawlingResponse.getChannelImageUrl(), crawlingResponse.getWatchedCnt(),
+                crawlingResponse.getPlayTime(),
+                TimeService.fromUnixTime(crawlingResponse.getPublishedDate()));
+
+        // 임시 스크랩(Other)으로 저장할 때 센 개수를 바뀐 타입으로 옮긴다.
+        if (video.getDeletedDate() == null) {
+            userCounterService.move(video.getUser().getId(), "Other", "Video");
+        }
 
-        return videoRepository.save(video);
+        return video;
     }
 
     @Transactional
@@ -105,32 +132,34 @@ public class VideoService {
     @Transactional
     public Long getVideoCount(String email) {
         User user = userService.validateUser(email);
-        return videoRepository.countByUserAndDeletedDateIsNull(user);
+        return userCounterService.getItemCount(user.getId(), "Video");
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetVideoResponse> getVideos(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdDate");
-        PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
-                sort);
-
-        Slice<Video> videoSlice = videoRepository.findAllByUserAndDeletedDateIsNull(user,
-                pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
-
-        return videoSlice.map(video -> GetVideoResponse.of(video,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(video)));
+        return scrapListService.getScraps(Video.class, user, null, pageable,
+                GetVideoResponse::of);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Slice<GetVideoResponse> searchVideos(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Video> videoSlice = videoRepository.searchKeywordInVideoOrderByCreatedDateDesc(
-                user, keyword, pageable);
+        return scrapListService.getScraps(Video.class, user, keyword, pageable,
+                GetVideoResponse::of);
+    }
+
+    /**
+     * 커서 기반 목록 조회 (cursor가 없으면 첫 페이지, keyword가 있으면 검색)
+     */
+    @Transactional(readOnly = true)
+    public GetCursorSliceResponse<GetVideoResponse> getVideosByCursor(String email,
+            String keyword, String cursor, int size) {
+        User user = userService.validateUser(email);
 
-        return videoSlice.map(video -> GetVideoResponse.of(video,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(video)));
+        return scrapListService.getScrapsByCursor(Video.class, user, keyword, cursor, size,
+                GetVideoResponse::of);
     }
 }
@@ -0,0 +1,15 @@
+package com.forever.dadamda.service.search;
+
+import java.util.Locale;
+
+public enum SearchDocumentType {
+    SCRAP, MEMO, BOARD;
+
+    public String value() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public String key(Long id) {
+        return value() + ":" + id;
+    }
+}
@@ -0,0 +1,95 @@
+package com.forever.dadamda.service.search;
+
+import com.forever.dadamda.entity.Memo;
+import com.forever.dadamda.entity.board.Board;
+import com.forever.dadamda.entity.scrap.Scrap;
+import io.sentry.Sentry;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스크랩, 메모, 보드가 추가/수정/삭제되고 트랜잭션이 커밋되면 검색 색인을 갱신한다.
+ * 서비스마다 색인 코드를 넣지 않도록 Hibernate 커밋 이후 이벤트를 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexEventListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SearchService searchService;
+
+    @PostConstruct
+    public void registerListener() {
+        EventListenerRegistry eventListenerRegistry = entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        reindex(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        reindex(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        reindex(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        Class<?> mappedClass = persister.getMappedClass();
+        return Scrap.class.isAssignableFrom(mappedClass) || Memo.class.equals(mappedClass)
+                || Board.class.equals(mappedClass);
+    }
+
+    private void reindex(Object entity) {
+        try {
+            if (entity instanceof Scrap) {
+                searchService.reindexScrap(((Scrap) entity).getId());
+            } else if (entity instanceof Memo) {
+                searchService.reindexMemo(((Memo) entity).getId());
+            } else if (entity instanceof Board) {
+                searchService.reindexBoard(((Board) entity).getId());
+            }
+        } catch (TaskRejectedException e) {
+            // 색인 대기열이 가득 차도 요청은 실패시키지 않는다.
+            Sentry.captureException(e);
+        }
+    }
+}
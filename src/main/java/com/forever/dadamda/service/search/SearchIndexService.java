@@ -0,0 +1,399 @@
+package com.forever.dadamda.service.search;
+
+import com.forever.dadamda.dto.search.GetSearchResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.sentry.Sentry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 스크랩, 메모, 보드 통합 검색용 Lucene 역색인 (BM25)
+ * search.index.path가 비어있으면 메모리에만 색인한다. (테스트용)
+ * 서버를 다시 시작해도 색인이 남도록 환경마다 절대 경로(도커에서는 볼륨)를 지정한다.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String USER_ID = "userId";
+    private static final String SCRAP_ID = "scrapId";
+    private static final String BOARD_UUID = "boardUuid";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String SITE_NAME = "siteName";
+    private static final String MEMO_TEXT = "memoText";
+    private static final String GENERATION = "generation";
+
+    // write.lock을 다시 얻으려고 시도하는 간격
+    private static final long LOCK_RETRY_MILLIS = 500;
+
+    // 색인 커밋에 같이 저장하는 동기화 checkpoint (이 시각 이후에 바뀐 문서부터 다시 색인한다)
+    private static final String CHECKPOINT = "checkpoint";
+
+    // 필드별 가중치 (제목에 있는 키워드를 더 높게 평가한다)
+    private static final Map<String, Float> FIELD_BOOSTS = new LinkedHashMap<>();
+
+    static {
+        FIELD_BOOSTS.put(TITLE, 2.0f);
+        FIELD_BOOSTS.put(DESCRIPTION, 1.0f);
+        FIELD_BOOSTS.put(MEMO_TEXT, 1.0f);
+        FIELD_BOOSTS.put(SITE_NAME, 0.5f);
+    }
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final Timer searchTimer;
+
+    // 전체 다시 색인할 때마다 바뀐다. 다시 색인되지 않은 이전 세대 문서는 지운다.
+    private volatile String generation = UUID.randomUUID().toString();
+
+    public SearchIndexService(@Value("${search.index.path:}") String indexPath,
+            @Value("${search.index.lock-wait-millis:30000}") long lockWaitMillis,
+            MeterRegistry meterRegistry) throws IOException {
+        this.analyzer = new KoreanAnalyzer();
+
+        Directory openedDirectory = null;
+        IndexWriter openedIndexWriter = null;
+        if (!indexPath.isBlank()) {
+            openedDirectory = FSDirectory.open(Paths.get(indexPath).toAbsolutePath());
+            openedIndexWriter = openIndexWriter(openedDirectory, lockWaitMillis);
+        }
+
+        // 잠금을 끝내 얻지 못하면 서버 시작을 막지 않고 메모리 색인으로 시작한다. (checkpoint가 없으므로 전체를 다시 색인한다)
+        if (openedIndexWriter == null) {
+            if (openedDirectory != null) {
+                openedDirectory.close();
+            }
+            openedDirectory = new ByteBuffersDirectory();
+            openedIndexWriter = new IndexWriter(openedDirectory, createIndexWriterConfig());
+        }
+
+        this.directory = openedDirectory;
+        this.indexWriter = openedIndexWriter;
+        this.searcherManager = new SearcherManager(indexWriter, null);
+
+        this.searchTimer = Timer.builder("search.query").register(meterRegistry);
+        Gauge.builder("search.index.documents", this, SearchIndexService::getDocumentCount)
+                .register(meterRegistry);
+        Gauge.builder("search.index.size", this, SearchIndexService::getIndexSizeBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void indexScrap(Long scrapId, Long userId, String title, String description,
+            String siteName) {
+        Document document = createDocument(SearchDocumentType.SCRAP, scrapId, userId);
+        addText(document, TITLE, title);
+        addText(document, DESCRIPTION, description);
+        addText(document, SITE_NAME, siteName);
+        updateDocument(SearchDocumentType.SCRAP.key(scrapId), document);
+    }
+
+    public void indexMemo(Long memoId, Long scrapId, Long userId, String memoText) {
+        Document document = createDocument(SearchDocumentType.MEMO, memoId, userId);
+        document.add(new StringField(SCRAP_ID, String.valueOf(scrapId), Field.Store.YES));
+        addText(document, MEMO_TEXT, memoText);
+        updateDocument(SearchDocumentType.MEMO.key(memoId), document);
+    }
+
+    public void indexBoard(Long boardId, UUID boardUuid, Long userId, String title,
+            String description) {
+        Document document = createDocument(SearchDocumentType.BOARD, boardId, userId);
+        document.add(new StringField(BOARD_UUID, String.valueOf(boardUuid), Field.Store.YES));
+        addText(document, TITLE, title);
+        addText(document, DESCRIPTION, description);
+        updateDocument(SearchDocumentType.BOARD.key(boardId), document);
+    }
+
+    public void deleteDocument(SearchDocumentType type, Long id) {
+        try {
+            indexWriter.deleteDocuments(new Term(KEY, type.key(id)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 스크랩이 삭제되면 그 스크랩의 메모도 검색되지 않도록 같이 지운다.
+     */
+    public void deleteMemosOfScrap(Long scrapId) {
+        try {
+            indexWriter.deleteDocuments(new Term(SCRAP_ID, String.valueOf(scrapId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 사용자의 문서 중 keyword와 관련도(BM25)가 높은 순서로 조회한다.
+     */
+    public Slice<GetSearchResponse> search(Long userId, String keyword, Pageable pageable) {
+        return searchTimer.record(() -> {
+            Query keywordQuery = createKeywordQuery(keyword);
+            if (keywordQuery == null) {
+                return new SliceImpl<>(List.of(), pageable, false);
+            }
+
+            Query query = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(USER_ID, String.valueOf(userId))), Occur.FILTER)
+                    .add(keywordQuery, Occur.MUST)
+                    .build();
+
+            int start = (int) pageable.getOffset();
+            int end = start + pageable.getPageSize();
+
+            try {
+                IndexSearcher indexSearcher = searcherManager.acquire();
+                try {
+                    ScoreDoc[] scoreDocs = indexSearcher.search(query, end + 1).scoreDocs;
+
+                    List<GetSearchResponse> contents = new ArrayList<>();
+                    for (int i = start; i < Math.min(scoreDocs.length, end); i++) {
+                        contents.add(toSearchResponse(indexSearcher.doc(scoreDocs[i].doc),
+                                scoreDocs[i].score));
+                    }
+                    return new SliceImpl<>(contents, pageable, scoreDocs.length > end);
+                } finally {
+                    searcherManager.release(indexSearcher);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 새 세대를 시작한다. 이후 색인되는 문서는 새 세대로 저장된다.
+     */
+    public String startGeneration() {
+        generation = UUID.randomUUID().toString();
+        return generation;
+    }
+
+    /**
+     * generation 세대로 다시 색인되지 않은 문서를 지운다. (DB에서 지워졌거나 이벤트가 누락된 문서)
+     */
+    public void deleteDocumentsNotIn(String generation) {
+        try {
+            indexWriter.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), Occur.FILTER)
+                    .add(new TermQuery(new Term(GENERATION, generation)), Occur.MUST_NOT)
+                    .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막으로 커밋한 동기화 checkpoint (한번도 동기화하지 않았으면 null)
+     */
+    public LocalDateTime getCheckpoint() {
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData == null) {
+            return null;
+        }
+
+        for (Map.Entry<String, String> entry : commitData) {
+            if (CHECKPOINT.equals(entry.getKey())) {
+                return LocalDateTime.parse(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 색인된 변경 사항과 checkpoint를 같이 디스크에 기록한다.
+     */
+    public void commit(LocalDateTime checkpoint) {
+        try {
+            indexWriter.setLiveCommitData(Map.of(CHECKPOINT, checkpoint.toString()).entrySet());
+            indexWriter.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getDocumentCount() {
+        return indexWriter.getDocStats().numDocs;
+    }
+
+    /**
+     * 색인된 변경 사항을 검색에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${search.index.refresh-millis:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            Sentry.captureException(e);
+        }
+    }
+
+    /**
+     * 색인된 변경 사항을 디스크에 기록한다.
+     */
+    @Scheduled(fixedDelayString = "${search.index.commit-millis:60000}")
+    public void commit() {
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } catch (IOException e) {
+            Sentry.captureException(e);
+        }
+    }
+
+    /**
+     * 종료할 때 색인을 커밋하고 write.lock을 놓는다. (deploy.sh는 이전 서버가 끝날 때까지 기다린 뒤 새 서버를 시작한다)
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * 배포할 때 이전 서버가 아직 write.lock을 잡고 있을 수 있으므로 lockWaitMillis 동안 다시 시도한다.
+     * 그래도 잠금을 얻지 못하면 null을 반환한다.
+     */
+    private IndexWriter openIndexWriter(Directory directory, long lockWaitMillis)
+            throws IOException {
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
+        while (true) {
+            try {
+                return new IndexWriter(directory, createIndexWriterConfig());
+            } catch (LockObtainFailedException e) {
+                if (System.currentTimeMillis() >= deadline) {
+                    Sentry.captureException(e);
+                    return null;
+                }
+            }
+
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    // IndexWriterConfig는 IndexWriter마다 새로 만들어야 한다.
+    private IndexWriterConfig createIndexWriterConfig() {
+        return new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+    }
+
+    private Document createDocument(SearchDocumentType type, Long id, Long userId) {
+        Document document = new Document();
+        document.add(new StringField(KEY, type.key(id), Field.Store.NO));
+        document.add(new StringField(TYPE, type.value(), Field.Store.YES));
+        document.add(new StringField(ID, String.valueOf(id), Field.Store.YES));
+        document.add(new StringField(USER_ID, String.valueOf(userId), Field.Store.NO));
+        document.add(new StringField(GENERATION, generation, Field.Store.NO));
+        return document;
+    }
+
+    private void addText(Document document, String field, String text) {
+        if (text != null && !text.isBlank()) {
+            document.add(new TextField(field, text, Field.Store.YES));
+        }
+    }
+
+    private void updateDocument(String key, Document document) {
+        try {
+            indexWriter.updateDocument(new Term(KEY, key), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query createKeywordQuery(String keyword) {
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder keywordQuery = new BooleanQuery.Builder();
+
+        boolean hasClause = false;
+        for (Map.Entry<String, Float> fieldBoost : FIELD_BOOSTS.entrySet()) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(fieldBoost.getKey(), keyword);
+            if (fieldQuery != null) {
+                keywordQuery.add(new BoostQuery(fieldQuery, fieldBoost.getValue()), Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+
+        return hasClause ? keywordQuery.build() : null;
+    }
+
+    private GetSearchResponse toSearchResponse(Document document, float score) {
+        String scrapId = document.get(SCRAP_ID);
+        String text = document.get(MEMO_TEXT) != null ? document.get(MEMO_TEXT)
+                : document.get(DESCRIPTION);
+
+        return GetSearchResponse.builder()
+                .type(document.get(TYPE))
+                .id(Long.valueOf(document.get(ID)))
+                .scrapId(scrapId == null ? null : Long.valueOf(scrapId))
+                .boardUuid(document.get(BOARD_UUID))
+                .title(document.get(TITLE))
+                .text(text)
+                .score(score)
+                .build();
+    }
+
+    private double getIndexSizeBytes() {
+        long size = 0;
+        try {
+            for (String fileName : directory.listAll()) {
+                size += directory.fileLength(fileName);
+            }
+        } catch (IOException e) {
+            // 병합 중에 파일이 지워질 수 있다. 다음 수집 때 다시 계산한다.
+            return Double.NaN;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,224 @@
+package com.forever.dadamda.service.search;
+
+import com.forever.dadamda.dto.search.GetSearchResponse;
+import com.forever.dadamda.entity.Memo;
+import com.forever.dadamda.entity.board.Board;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.MemoRepository;
+import com.forever.dadamda.repository.board.BoardRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.user.UserService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final SearchIndexService searchIndexService;
+    private final UserService userService;
+    private final ScrapRepository scrapRepository;
+    private final MemoRepository memoRepository;
+    private final BoardRepository boardRepository;
+    private final ThreadPoolTaskExecutor searchSyncExecutor;
+    private final ThreadPoolTaskExecutor searchReconcileExecutor;
+
+    @Value("${search.index.sync.enabled:true}")
+    private boolean syncEnabled;
+
+    // 커밋이 늦은 트랜잭션의 변경을 놓치지 않도록 checkpoint를 이만큼 앞당겨서 다시 색인한다.
+    @Value("${search.index.sync.overlap-millis:60000}")
+    private long syncOverlapMillis;
+
+    @Value("${search.index.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    @Transactional(readOnly = true)
+    public Slice<GetSearchResponse> search(String email, String keyword, Pageable pageable) {
+        User user = userService.validateUser(email);
+
+        return searchIndexService.search(user.getId(), keyword, pageable);
+    }
+
+    /**
+     * 커밋된 스크랩을 다시 읽어서 색인한다. 삭제된 스크랩은 메모와 함께 색인에서 지운다.
+     */
+    @Async("searchIndexExecutor")
+    @Transactional(readOnly = true)
+    public void reindexScrap(Long scrapId) {
+        syncScrap(scrapId, scrapRepository.findById(scrapId).orElse(null));
+    }
+
+    @Async("searchIndexExecutor")
+    @Transactional(readOnly = true)
+    public void reindexMemo(Long memoId) {
+        syncMemo(memoId, memoRepository.findById(memoId).orElse(null));
+    }
+
+    @Async("searchIndexExecutor")
+    @Transactional(readOnly = true)
+    public void reindexBoard(Long boardId) {
+        syncBoard(boardId, boardRepository.findById(boardId).orElse(null));
+    }
+
+    /**
+     * 색인 동기화와 전체 다시 색인은 오래 걸릴 수 있으므로 스케줄 스레드에서는 각자의 스레드에 넘기기만 한다.
+     * 이전 실행이 끝나지 않았으면 이번 실행은 건너뛴다.
+     */
+    @Scheduled(initialDelayString = "${search.index.sync.initial-delay-millis:10000}",
+            fixedDelayString = "${search.index.sync.fixed-delay-millis:10000}")
+    public void scheduleIndexSync() {
+        searchSyncExecutor.execute(this::syncIndex);
+    }
+
+    @Scheduled(cron = "${search.index.reconcile-cron:0 0 4 * * *}")
+    public void scheduleIndexReconcile() {
+        searchReconcileExecutor.execute(this::reconcileIndex);
+    }
+
+    /**
+     * 마지막 checkpoint 이후 바뀐 스크랩, 메모, 보드를 다시 색인한다. (다른 서버에서 바뀐 문서도 반영된다)
+     * 색인은 서버마다 따로 있으므로 checkpoint도 각 서버의 색인 커밋에 같이 저장한다.
+     * checkpoint가 없으면(처음 배포하거나 색인 디렉토리를 지운 경우) 전체를 색인한다.
+     */
+    public synchronized void syncIndex() {
+        if (!syncEnabled) {
+            return;
+        }
+
+        LocalDateTime checkpoint = searchIndexService.getCheckpoint();
+        if (checkpoint == null) {
+            reconcileIndex();
+            return;
+        }
+
+        LocalDateTime nextCheckpoint = nextCheckpoint();
+        Pageable batch = PageRequest.of(0, rebuildBatchSize);
+
+        List<Scrap> scraps = scrapRepository.findScrapsModifiedAfter(checkpoint, 0L, batch);
+        while (!scraps.isEmpty()) {
+            scraps.forEach(scrap -> syncScrap(scrap.getId(), scrap));
+            Scrap lastScrap = scraps.get(scraps.size() - 1);
+            scraps = scrapRepository.findScrapsModifiedAfter(lastScrap.getModifiedDate(),
+                    lastScrap.getId(), batch);
+        }
+
+        List<Memo> memos = memoRepository.findMemosModifiedAfter(checkpoint, 0L, batch);
+        while (!memos.isEmpty()) {
+            memos.forEach(memo -> syncMemo(memo.getId(), memo));
+            Memo lastMemo = memos.get(memos.size() - 1);
+            memos = memoRepository.findMemosModifiedAfter(lastMemo.getModifiedDate(),
+                    lastMemo.getId(), batch);
+        }
+
+        List<Board> boards = boardRepository.findBoardsModifiedAfter(checkpoint, 0L, batch);
+        while (!boards.isEmpty()) {
+            boards.forEach(board -> syncBoard(board.getId(), board));
+            Board lastBoard = boards.get(boards.size() - 1);
+            boards = boardRepository.findBoardsModifiedAfter(lastBoard.getModifiedDate(),
+                    lastBoard.getId(), batch);
+        }
+
+        searchIndexService.commit(nextCheckpoint);
+        searchIndexService.refresh();
+    }
+
+    /**
+     * 전체 스크랩, 메모, 보드를 다시 색인하고, 다시 색인되지 않은 문서(DB에서 지워진 문서)는 지운다.
+     * 이벤트나 modifiedDate로 잡히지 않는 변경(네이티브 쿼리, 하드 삭제 등)도 여기서 맞춰진다.
+     */
+    public synchronized void reconcileIndex() {
+        if (!syncEnabled) {
+            return;
+        }
+
+        LocalDateTime nextCheckpoint = nextCheckpoint();
+        String generation = searchIndexService.startGeneration();
+        Pageable batch = PageRequest.of(0, rebuildBatchSize);
+
+        List<Scrap> scraps = scrapRepository.findScrapsForIndexing(0L, batch);
+        while (!scraps.isEmpty()) {
+            scraps.forEach(this::indexScrap);
+            scraps = scrapRepository.findScrapsForIndexing(
+                    scraps.get(scraps.size() - 1).getId(), batch);
+        }
+
+        List<Memo> memos = memoRepository.findMemosForIndexing(0L, batch);
+        while (!memos.isEmpty()) {
+            memos.forEach(this::indexMemo);
+            memos = memoRepository.findMemosForIndexing(memos.get(memos.size() - 1).getId(), batch);
+        }
+
+        List<Board> boards = boardRepository.findBoardsForIndexing(0L, batch);
+        while (!boards.isEmpty()) {
+            boards.forEach(this::indexBoard);
+            boards = boardRepository.findBoardsForIndexing(
+                    boards.get(boards.size() - 1).getId(), batch);
+        }
+
+        searchIndexService.deleteDocumentsNotIn(generation);
+        searchIndexService.commit(nextCheckpoint);
+        searchIndexService.refresh();
+    }
+
+    private LocalDateTime nextCheckpoint() {
+        return LocalDateTime.now().minus(Duration.ofMillis(syncOverlapMillis));
+    }
+
+    private void syncScrap(Long scrapId, Scrap scrap) {
+        if (scrap == null || scrap.getDeletedDate() != null) {
+            searchIndexService.deleteDocument(SearchDocumentType.SCRAP, scrapId);
+            searchIndexService.deleteMemosOfScrap(scrapId);
+            return;
+        }
+
+        indexScrap(scrap);
+    }
+
+    private void syncMemo(Long memoId, Memo memo) {
+        if (memo == null || memo.getDeletedDate() != null
+                || memo.getScrap().getDeletedDate() != null) {
+            searchIndexService.deleteDocument(SearchDocumentType.MEMO, memoId);
+            return;
+        }
+
+        indexMemo(memo);
+    }
+
+    private void syncBoard(Long boardId, Board board) {
+        if (board == null || board.getDeletedDate() != null) {
+            searchIndexService.deleteDocument(SearchDocumentType.BOARD, boardId);
+            return;
+        }
+
+        indexBoard(board);
+    }
+
+    private void indexScrap(Scrap scrap) {
+        searchIndexService.indexScrap(scrap.getId(), scrap.getUser().getId(), scrap.getTitle(),
+                scrap.getDescription(), scrap.getSiteName());
+    }
+
+    private void indexMemo(Memo memo) {
+        Scrap scrap = memo.getScrap();
+        searchIndexService.indexMemo(memo.getId(), scrap.getId(), scrap.getUser().getId(),
+                memo.getMemoText());
+    }
+
+    private void indexBoard(Board board) {
+        searchIndexService.indexBoard(board.getId(), board.getUuid(), board.getUser().getId(),
+                board.getTitle(), board.getDescription());
+    }
+}
@@ -0,0 +1,273 @@
+package com.forever.dadamda.service.user;
+
+import static com.forever.dadamda.service.RandomService.nicknameAt;
+import static com.forever.dadamda.service.RandomService.nicknameCount;
+
+import com.forever.dadamda.repository.UserRepository;
+import com.forever.dadamda.service.JobLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sentry.Sentry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가입할 때 줄 닉네임 풀 (사용 중이 아닌지 미리 확인한 닉네임을 섞어서 보관한다)
+ * Redis를 쓰면 서버끼리 풀을 공유하고, SPOP으로 꺼내므로 같은 닉네임을 두 번 주지 않는다.
+ * Redis에 장애가 나도 쓸 수 있도록 서버마다 로컬 풀을 따로 채운다.
+ */
+@Service
+public class NicknamePoolService {
+
+    private static final String REDIS_KEY = "nickname:pool";
+    private static final String JOB_NAME = "nickname-pool-refill";
+
+    // 닉네임 공간을 섞인 순서로 한 바퀴 도는 순열 (i * STEP mod nicknameCount, STEP은 nicknameCount와 서로소)
+    private static final long STEP = 611_953L;
+
+    // 풀에서 꺼낸 닉네임이 그 사이에 사용 중이 되었으면 다시 꺼내는 최대 횟수
+    private static final int MAX_ALLOCATE_ATTEMPTS = 3;
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int localMinSize;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration leaseDuration;
+
+    private final UserRepository userRepository;
+    private final JobLockService jobLockService;
+    private final StringRedisTemplate redisTemplate;
+    // 같은 닉네임이 두 번 들어가지 않도록 Set으로 보관한다. (넣은 순서대로 꺼낸다)
+    private final Set<String> localPool = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    // 로컬 풀을 채울 때 확인할 순열 위치 (서버끼리 겹치지 않도록 임의의 위치에서 시작한다)
+    private long localPosition = ThreadLocalRandom.current().nextLong(nicknameCount);
+
+    private final Counter emptyCounter;
+    private final Counter redisErrorCounter;
+
+    public NicknamePoolService(
+            @Value("${user.nickname-pool.enabled:true}") boolean enabled,
+            @Value("${user.nickname-pool.redis-enabled:true}") boolean redisEnabled,
+            @Value("${user.nickname-pool.min-size:1000}") int minSize,
+            @Value("${user.nickname-pool.local-min-size:100}") int localMinSize,
+            @Value("${user.nickname-pool.batch-size:1000}") int batchSize,
+            @Value("${user.nickname-pool.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${user.nickname-pool.lease-minutes:5}") long leaseMinutes,
+            UserRepository userRepository,
+            JobLockService jobLockService,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.localMinSize = localMinSize;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.leaseDuration = Duration.ofMinutes(leaseMinutes);
+        this.userRepository = userRepository;
+        this.jobLockService = jobLockService;
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+
+        this.emptyCounter = Counter.builder("user.nickname-pool.empty").register(meterRegistry);
+        this.redisErrorCounter = Counter.builder("user.nickname-pool.redis")
+                .tag("result", "error")
+                .register(meterRegistry);
+        Gauge.builder("user.nickname-pool.size", localPool, Set::size)
+                .tag("store", "local")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 풀에서 닉네임 하나를 꺼낸다. 풀이 비어있으면 Optional.empty()를 반환한다.
+     * 꺼낸 닉네임은 한번만 확인하므로 풀이 얼마나 찼는지와 관계없이 DB 조회 횟수가 일정하다.
+     */
+    public Optional<String> allocate() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        for (int i = 0; i < MAX_ALLOCATE_ATTEMPTS; i++) {
+            String nickname = pop();
+            if (nickname == null) {
+                emptyCounter.increment();
+                return Optional.empty();
+            }
+
+            // 풀에 넣은 뒤에 닉네임 변경으로 사용 중이 된 닉네임은 버린다.
+            if (!userRepository.existsByNickname(nickname)) {
+                return Optional.of(nickname);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 닉네임 변경으로 사용 중이 된 닉네임을 풀에서 뺀다.
+     */
+    public void remove(String nickname) {
+        if (!enabled) {
+            return;
+        }
+
+        localPool.remove(nickname);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForSet().remove(REDIS_KEY, nickname);
+            } catch (Exception e) {
+                redisErrorCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 로컬 풀은 서버마다 채우고, Redis 풀은 잠금을 얻은 한 서버만 채운다.
+     */
+    @Scheduled(initialDelayString = "${user.nickname-pool.initial-delay-millis:10000}",
+            fixedDelayString = "${user.nickname-pool.fixed-delay-millis:60000}")
+    public void refill() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            refillLocalPool();
+        } catch (Exception e) {
+            Sentry.captureException(e);
+        }
+
+        if (redisTemplate != null) {
+            refillRedisPool();
+        }
+    }
+
+    /**
+     * 로컬 풀이 작으면 이 서버의 순열 위치부터 batchSize개씩 확인해서 채운다.
+     * Redis를 쓰지 않으면 로컬 풀이 유일한 풀이므로 minSize까지, 쓰면 장애 대비용으로 localMinSize까지 채운다.
+     */
+    private void refillLocalPool() {
+        int targetSize = redisTemplate == null ? minSize : localMinSize;
+
+        for (int i = 0; i < maxBatchesPerRun && localPool.size() < targetSize; i++) {
+            localPool.addAll(findUnusedNicknames(localPosition));
+            localPosition = (localPosition + batchSize) % nicknameCount;
+        }
+    }
+
+    /**
+     * Redis 풀이 minSize보다 작으면 닉네임 공간을 섞인 순서로 batchSize개씩 확인해서, 사용 중이 아닌 닉네임을 채운다.
+     * 확인한 위치를 저장해서 다음 실행은 이어서 확인한다. (한 배치에 IN 조회 한번)
+     */
+    private void refillRedisPool() {
+        if (size() >= minSize) {
+            return;
+        }
+
+        jobLockService.createIfAbsent(JOB_NAME);
+        if (!jobLockService.tryAcquire(JOB_NAME, leaseDuration)) {
+            return;
+        }
+
+        try {
+            Long checkpoint = jobLockService.getCheckpoint(JOB_NAME);
+            long position = checkpoint == null ? 0L : checkpoint;
+
+            for (int i = 0; i < maxBatchesPerRun && size() < minSize; i++) {
+                push(findUnusedNicknames(position));
+                position = (position + batchSize) % nicknameCount;
+
+                if (!jobLockService.renew(JOB_NAME, leaseDuration, position)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            Sentry.captureException(e);
+        } finally {
+            jobLockService.release(JOB_NAME);
+        }
+    }
+
+    // 순열의 position부터 batchSize개 중 사용 중이 아닌 닉네임을 섞어서 반환한다.
+    private List<String> findUnusedNicknames(long position) {
+        List<String> candidates = new ArrayList<>(batchSize);
+        for (int j = 0; j < batchSize; j++) {
+            candidates.add(nicknameAt((int) ((position + j) % nicknameCount * STEP % nicknameCount)));
+        }
+
+        Set<String> usedNicknames = new HashSet<>(userRepository.findNicknamesIn(candidates));
+        candidates.removeIf(usedNicknames::contains);
+        Collections.shuffle(candidates);
+        return candidates;
+    }
+
+    public long size() {
+        if (redisTemplate == null) {
+            return localPool.size();
+        }
+
+        try {
+            Long size = redisTemplate.opsForSet().size(REDIS_KEY);
+            return size == null ? 0L : size;
+        } catch (Exception e) {
+            redisErrorCounter.increment();
+            return localPool.size();
+        }
+    }
+
+    private String pop() {
+        if (redisTemplate == null) {
+            return pollLocalPool();
+        }
+
+        try {
+            String nickname = redisTemplate.opsForSet().pop(REDIS_KEY);
+            return nickname == null ? pollLocalPool() : nickname;
+        } catch (Exception e) {
+            redisErrorCounter.increment();
+            return pollLocalPool();
+        }
+    }
+
+    private String pollLocalPool() {
+        synchronized (localPool) {
+            Iterator<String> iterator = localPool.iterator();
+            if (!iterator.hasNext()) {
+                return null;
+            }
+
+            String nickname = iterator.next();
+            iterator.remove();
+            return nickname;
+        }
+    }
+
+    private void push(List<String> nicknames) {
+        if (nicknames.isEmpty()) {
+            return;
+        }
+
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForSet().add(REDIS_KEY, nicknames.toArray(new String[0]));
+                return;
+            } catch (Exception e) {
+                redisErrorCounter.increment();
+            }
+        }
+        localPool.addAll(nicknames);
+    }
+}
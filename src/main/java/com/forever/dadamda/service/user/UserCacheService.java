@@ -0,0 +1,133 @@
+package com.forever.dadamda.service.user;
+
+import com.forever.dadamda.entity.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이메일로 조회한 회원 캐시 (인증된 요청마다 users 테이블을 조회하지 않도록)
+ * 회원 정보가 바뀌면 커밋 이후에 캐시를 지우고, Redis 채널로 다른 서버의 캐시도 지운다.
+ * 캐시된 회원은 준영속 상태이므로 회원 정보를 변경할 때는 DB에서 다시 조회해야 한다.
+ */
+@Service
+public class UserCacheService {
+
+    public static final String EVICT_CHANNEL = "user-cache:evict";
+
+    private final boolean enabled;
+    private final Cache<String, User> localCache;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Counter redisErrorCounter;
+
+    public UserCacheService(
+            @Value("${user.cache.enabled:true}") boolean enabled,
+            @Value("${user.cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${user.cache.maximum-size:10000}") long maximumSize,
+            @Value("${user.cache.ttl-seconds:300}") long ttlSeconds,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .<String, User>build(), "user");
+
+        this.redisErrorCounter = Counter.builder("user.cache.redis").tag("result", "error")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰의 ver 클레임과 비교할 회원 버전 (회원 정보를 마지막으로 수정한 시각)
+     */
+    public static long versionOf(User user) {
+        if (user.getModifiedDate() == null) {
+            return 0L;
+        }
+        return user.getModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public Optional<User> get(String email) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(localCache.getIfPresent(email));
+    }
+
+    public void put(String email, User user) {
+        if (enabled) {
+            localCache.put(email, user);
+        }
+    }
+
+    /**
+     * 캐시를 바로 지우고, 트랜잭션 안이면 커밋 이후에 한번 더 지운다.
+     * (커밋 전에 다른 요청이 변경 전 회원을 다시 캐시하지 않도록) 다른 서버에는 커밋 이후에 알린다.
+     */
+    public void evict(String email) {
+        localCache.invalidate(email);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishEviction(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                localCache.invalidate(email);
+                publishEviction(email);
+            }
+        });
+    }
+
+    /**
+     * 다른 서버에서 보낸 무효화 메시지를 받으면 이 서버의 캐시만 지운다.
+     */
+    public void evictLocal(String email) {
+        localCache.invalidate(email);
+    }
+
+    /**
+     * 토큰을 발급할 때의 회원 정보보다 캐시된 회원이 오래됐으면 지운다.
+     * (Redis 무효화 메시지를 놓친 서버도 다시 로그인한 회원은 새로 조회하도록)
+     */
+    public void evictIfOlderThan(String email, Long version) {
+        if (!enabled || version == null) {
+            return;
+        }
+
+        User cachedUser = localCache.getIfPresent(email);
+        if (cachedUser != null && versionOf(cachedUser) < version) {
+            localCache.invalidate(email);
+        }
+    }
+
+    private void publishEviction(String email) {
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, email);
+        } catch (Exception e) {
+            // 다른 서버의 캐시는 TTL이 지나면 지워진다.
+            redisErrorCounter.increment();
+        }
+    }
+}
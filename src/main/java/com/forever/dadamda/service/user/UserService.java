@@ -1,41 +1,43 @@
 package com.forever.dadamda.service.user;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.dto.upload.GetPresignedUploadUrlResponse;
 import com.forever.dadamda.dto.user.GetUserInfoResponse;
+import com.forever.dadamda.dto.user.GetUserSummaryResponse;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.UserRepository;
-import com.forever.dadamda.service.TimeService;
-import io.sentry.Sentry;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
+import com.forever.dadamda.service.S3UploadService;
+import com.forever.dadamda.service.counter.UserCounterService;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    @Value("${application.bucket.name}")
-    private String bucketName;
-
     private final UserRepository userRepository;
-    private final AmazonS3 s3Client;
-
+    private final S3UploadService s3UploadService;
+    private final UserCounterService userCounterService;
+    private final UserCacheService userCacheService;
+    private final NicknamePoolService nicknamePoolService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 캐시된 회원이 있으면 DB를 조회하지 않는다. 반환된 회원은 준영속 상태일 수 있으므로 변경하지 않는다.
+     */
     @Transactional
     public User validateUser(String email) {
-        return userRepository.findByEmailAndDeletedDateIsNull(email).orElseThrow(
-                () -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMBER)
-        );
+        return userCacheService.get(email).orElseGet(() -> {
+            User user = findUser(email);
+            userCacheService.put(email, user);
+            return user;
+        });
     }
 
     @Transactional
@@ -47,50 +49,73 @@ public class UserService {
     public GetUserInfoResponse getUserInfo(String email) {
         User user = validateUser(email);
 
-        return GetUserInfoResponse.builder().name(user.getName()).email(user.getEmail())
-                .profileUrl(user.getProfileUrl()).provider(user.getProvider())
-                .nickname(user.getNickname())
-                .createdAt(TimeService.fromLocalDateTime(user.getCreatedDate())).build();
+        return GetUserInfoResponse.of(user);
+    }
+
+    /**
+     * 회원 정보와 타입별 스크랩 개수, 보드 개수를 한번에 조회한다. (첫 화면에서 여러 API를 따로 호출하지 않도록)
+     */
+    @Transactional(readOnly = true)
+    public GetUserSummaryResponse getUserSummary(String email) {
+        User user = validateUser(email);
+
+        return GetUserSummaryResponse.of(GetUserInfoResponse.of(user),
+                userCounterService.getItemCounts(user.getId()));
     }
 
     @Transactional
     public void deleteUser(String email) {
-        User user = validateUser(email);
+        User user = findUser(email);
         user.updateDeletedDate(LocalDateTime.now());
+        userCacheService.evict(email);
     }
 
     @Transactional
     public void uploadProfileImage(String email, MultipartFile file) {
-        User user = userRepository.findByEmailAndDeletedDateIsNull(email)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMBER));
-
-        String fileName = "profileImage/" + user.getUuid();
+        User user = findUser(email);
 
         validateExist(file);
 
-        File convertedFile = new File("/tmp/" + file.getOriginalFilename());
-        try (FileOutputStream fileOutputStream = new FileOutputStream(convertedFile)){
-            fileOutputStream.write(file.getBytes());
-        } catch (IOException e) {
-            Sentry.captureException(e);
-            throw new IllegalArgumentException("파일 저장 중 에러가 발생했습니다.");
-        }
+        String url = s3UploadService.upload(profileImageKey(user), file);
+        user.updateProfileImage(url);
+        userCacheService.evict(email);
+    }
+    
+    /**
+     * 프로필 이미지를 S3에 직접 올릴 presigned URL을 발급한다. 업로드 후 confirmProfileImage를 호출해야 반영된다.
+     */
+    @Transactional(readOnly = true)
+    public GetPresignedUploadUrlResponse getProfileImageUploadUrl(String email, String contentType) {
+        User user = validateUser(email);
 
-        // upload file
-        PutObjectRequest request = new PutObjectRequest(bucketName, fileName, convertedFile);
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(file.getContentType());
-        metadata.setContentLength(file.getSize());
-        request.setMetadata(metadata);
-        s3Client.putObject(request);
+        return s3UploadService.generateImageUploadUrl(profileImageKey(user), contentType);
+    }
 
-        // delete file
-        convertedFile.delete();
+    /**
+     * S3 확인과 복사는 트랜잭션 밖에서 하고, URL만 짧은 트랜잭션에서 반영한다. (S3를 호출하는 동안 DB 커넥션을 잡지 않도록)
+     * 반영하지 못하면 복사한 파일을 지운다. 단, 기존 URL이 같은 파일을 가리키면 사용 중인 이미지이므로 남긴다.
+     */
+    public void confirmProfileImage(String email, String uploadKey) {
+        User user = findUser(email);
+        String key = profileImageKey(user);
+
+        String url = s3UploadService.confirmImageUpload(key, uploadKey);
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> findUser(email).updateProfileImage(url));
+        } catch (RuntimeException e) {
+            if (!url.equals(user.getProfileUrl())) {
+                s3UploadService.delete(key);
+            }
+            throw e;
+        }
+        userCacheService.evict(email);
+    }
 
-        String url = s3Client.getUrl(bucketName, fileName).toString();
-        user.updateProfileImage(url);
+    private String profileImageKey(User user) {
+        return "profileImage/" + user.getUuid();
     }
-    
+
     private void validateExist(MultipartFile file) {
         if(file.isEmpty()) {
             throw new InvalidException(ErrorCode.NOT_EXISTS);
@@ -99,18 +124,27 @@ public class UserService {
 
     @Transactional
     public void deleteProfileImage(String email) {
-        User user = validateUser(email);
+        User user = findUser(email);
         user.deleteProfileImage();
+        userCacheService.evict(email);
     }
 
     @Transactional
     public void updateNickname(String nickname, String email) {
-        User user = validateUser(email);
+        User user = findUser(email);
 
         if(userRepository.existsByNickname(nickname)) {
             throw new InvalidException(ErrorCode.INVALID_DUPLICATED_NICKNAME);
         }
 
         user.updateNickname(nickname);
+        userCacheService.evict(email);
+        nicknamePoolService.remove(nickname);
+    }
+
+    private User findUser(String email) {
+        return userRepository.findByEmailAndDeletedDateIsNull(email).orElseThrow(
+                () -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMBER)
+        );
     }
 }
@@ -0,0 +1,211 @@
+package com.forever.dadamda.util;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 위도, 경도를 geohash 문자열로 변환한다.
+ * geohash가 같은 접두사로 시작하면 같은 셀 안에 있으므로, 접두사(LIKE 'prefix%') 인덱스 범위 조회로 주변 장소를 찾을 수 있다.
+ */
+public class GeohashUtils {
+
+    public static final int PRECISION = 12;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    public static String encode(BigDecimal latitude, BigDecimal longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+
+        return encode(latitude.doubleValue(), longitude.doubleValue(), PRECISION);
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLatitude = -90, maxLatitude = 90;
+        double minLongitude = -180, maxLongitude = 180;
+
+        StringBuilder geohash = new StringBuilder(precision);
+        boolean isLongitudeBit = true;
+        int bitCount = 0;
+        int charIndex = 0;
+
+        while (geohash.length() < precision) {
+            if (isLongitudeBit) {
+                double middle = (minLongitude + maxLongitude) / 2;
+                if (longitude >= middle) {
+                    charIndex = (charIndex << 1) | 1;
+                    minLongitude = middle;
+                } else {
+                    charIndex = charIndex << 1;
+                    maxLongitude = middle;
+                }
+            } else {
+                double middle = (minLatitude + maxLatitude) / 2;
+                if (latitude >= middle) {
+                    charIndex = (charIndex << 1) | 1;
+                    minLatitude = middle;
+                } else {
+                    charIndex = charIndex << 1;
+                    maxLatitude = middle;
+                }
+            }
+            isLongitudeBit = !isLongitudeBit;
+
+            if (++bitCount == 5) {
+                geohash.append(BASE32.charAt(charIndex));
+                bitCount = 0;
+                charIndex = 0;
+            }
+        }
+
+        return geohash.toString();
+    }
+
+    /**
+     * 영역을 빠짐없이 덮는 geohash 셀 목록을 반환한다.
+     * 셀이 maxCells개 이하가 되는 가장 긴 길이를 사용해서, 영역 밖 장소를 최대한 적게 조회하도록 한다.
+     */
+    public static Set<String> coveringCells(double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude, int maxCells) {
+        for (int precision = PRECISION; precision > 1; precision--) {
+            Set<String> cells = coveringCells(minLatitude, minLongitude, maxLatitude,
+                    maxLongitude, precision, maxCells);
+            if (cells != null) {
+                return cells;
+            }
+        }
+
+        return coveringCells(minLatitude, minLongitude, maxLatitude, maxLongitude, 1,
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * 지도 줌 레벨에서 256px 타일 하나를 가로로 8칸 이상 나누는 가장 짧은 geohash 길이
+     */
+    public static int precisionForZoom(int zoom) {
+        return Math.max(1, Math.min(PRECISION, (2 * zoom + 9) / 5));
+    }
+
+    /**
+     * 영역을 덮는 precision 길이의 geohash 셀 개수
+     */
+    public static long cellCount(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, int precision) {
+        long[] cellIndexRange = cellIndexRange(minLatitude, minLongitude, maxLatitude,
+                maxLongitude, precision);
+
+        return (cellIndexRange[1] - cellIndexRange[0] + 1)
+                * (cellIndexRange[3] - cellIndexRange[2] + 1);
+    }
+
+    /**
+     * 반지름(미터) 원을 덮는 위도, 경도 범위 {minLatitude, minLongitude, maxLatitude, maxLongitude}
+     * 날짜 변경선을 넘는 범위는 -180 ~ 180으로 자른다.
+     */
+    public static double[] boundingBox(double latitude, double longitude, double radiusMeters) {
+        double latitudeDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+
+        // 극점을 포함하면 모든 경도가 범위 안에 들어온다.
+        if (minLatitude == -90 || maxLatitude == 90) {
+            return new double[]{minLatitude, -180, maxLatitude, 180};
+        }
+
+        double longitudeDelta = Math.toDegrees(Math.asin(Math.min(1,
+                Math.sin(radiusMeters / EARTH_RADIUS_METERS)
+                        / Math.cos(Math.toRadians(latitude)))));
+        return new double[]{minLatitude, Math.max(-180, longitude - longitudeDelta),
+                maxLatitude, Math.min(180, longitude + longitudeDelta)};
+    }
+
+    /**
+     * 두 지점 사이의 거리(미터, haversine)
+     */
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2,
+            double longitude2) {
+        double latitudeDelta = Math.toRadians(latitude2 - latitude1);
+        double longitudeDelta = Math.toRadians(longitude2 - longitude1);
+
+        double a = Math.pow(Math.sin(latitudeDelta / 2), 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(longitudeDelta / 2), 2);
+
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 반지름(미터)에 해당하는 위도 차이(도)
+     */
+    public static double radiusDegrees(double radiusMeters) {
+        return Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+    }
+
+    /**
+     * 기준 위도에서 경도 1도의 거리가 위도 1도의 거리의 몇 배인지 (cos(위도))
+     */
+    public static double longitudeScale(double latitude) {
+        return Math.cos(Math.toRadians(latitude));
+    }
+
+    private static Set<String> coveringCells(double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude, int precision, int maxCells) {
+        if (cellCount(minLatitude, minLongitude, maxLatitude, maxLongitude, precision)
+                > maxCells) {
+            return null;
+        }
+
+        long[] cellIndexRange = cellIndexRange(minLatitude, minLongitude, maxLatitude,
+                maxLongitude, precision);
+        long minLatitudeIndex = cellIndexRange[0];
+        long maxLatitudeIndex = cellIndexRange[1];
+        long minLongitudeIndex = cellIndexRange[2];
+        long maxLongitudeIndex = cellIndexRange[3];
+        double latitudeCellSize = latitudeCellSize(precision);
+        double longitudeCellSize = longitudeCellSize(precision);
+
+        // 각 셀의 가운데 지점을 변환하면 그 셀의 geohash가 된다.
+        Set<String> cells = new TreeSet<>();
+        for (long latitudeIndex = minLatitudeIndex; latitudeIndex <= maxLatitudeIndex;
+                latitudeIndex++) {
+            for (long longitudeIndex = minLongitudeIndex; longitudeIndex <= maxLongitudeIndex;
+                    longitudeIndex++) {
+                cells.add(encode(-90 + (latitudeIndex + 0.5) * latitudeCellSize,
+                        -180 + (longitudeIndex + 0.5) * longitudeCellSize, precision));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 영역이 걸치는 셀 번호 범위 {minLatitudeIndex, maxLatitudeIndex, minLongitudeIndex, maxLongitudeIndex}
+     */
+    private static long[] cellIndexRange(double minLatitude, double minLongitude,
+            double maxLatitude, double maxLongitude, int precision) {
+        int latitudeBits = 5 * precision / 2;
+        int longitudeBits = (5 * precision + 1) / 2;
+        double latitudeCellSize = latitudeCellSize(precision);
+        double longitudeCellSize = longitudeCellSize(precision);
+
+        return new long[]{
+                cellIndex(minLatitude + 90, latitudeCellSize, latitudeBits),
+                cellIndex(maxLatitude + 90, latitudeCellSize, latitudeBits),
+                cellIndex(minLongitude + 180, longitudeCellSize, longitudeBits),
+                cellIndex(maxLongitude + 180, longitudeCellSize, longitudeBits)};
+    }
+
+    private static double latitudeCellSize(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    private static double longitudeCellSize(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    private static long cellIndex(double offset, double cellSize, int bits) {
+        return Math.min((long) Math.floor(offset / cellSize), (1L << bits) - 1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.forever.dadamda.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class UrlUtils {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "igshid", "yclid",
+            "mc_cid", "mc_eid", "_hsenc", "_hsmi", "_ga", "_gl"
+    );
+
+    /**
+     * 같은 페이지를 가리키는 URL이 같은 문자열이 되도록 정규화한다.
+     * scheme/host 소문자 변환(http는 https로), www. 제거, 기본 포트 제거, 마지막 '/' 제거,
+     * 추적용 파라미터(utm_* 등) 제거 및 파라미터 정렬, fragment 제거
+     */
+    public static String canonicalize(String pageUrl) {
+        if (pageUrl == null) {
+            return null;
+        }
+
+        URI uri;
+        try {
+            uri = new URI(pageUrl.trim());
+        } catch (URISyntaxException e) {
+            return pageUrl.trim();
+        }
+
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            return pageUrl.trim();
+        }
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        if (scheme.equals("http")) {
+            scheme = "https";
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+
+        int port = uri.getPort();
+        boolean isDefaultPort = port == -1 || port == 80 || port == 443;
+
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        StringBuilder canonicalUrl = new StringBuilder()
+                .append(scheme).append("://").append(host);
+        if (!isDefaultPort) {
+            canonicalUrl.append(':').append(port);
+        }
+        canonicalUrl.append(path);
+
+        String query = canonicalizeQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            canonicalUrl.append('?').append(query);
+        }
+
+        return canonicalUrl.toString();
+    }
+
+    /**
+     * 정규화된 URL의 SHA-256 해시 (64자리 16진수 문자열)
+     */
+    public static String hash(String pageUrl) {
+        String canonicalUrl = canonicalize(pageUrl);
+        if (canonicalUrl == null) {
+            return null;
+        }
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(canonicalUrl.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hash.append(Character.forDigit((b >> 4) & 0xF, 16))
+                        .append(Character.forDigit(b & 0xF, 16));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String canonicalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        List<String> params = new ArrayList<>();
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            params.add(param);
+        }
+        params.sort(null);
+
+        return String.join("&", params);
+    }
+}
@@ -0,0 +1,4 @@
+-- 스크랩 키워드 검색용 FULLTEXT(ngram) 인덱스 (운영 DB에 배포 전에 한번 적용한다)
+-- 큰 테이블에서는 잠금 시간이 길 수 있으므로 트래픽이 적을 때 적용한다.
+-- 서버는 이 인덱스가 생기면 MATCH ... AGAINST 검색으로, 없으면 LIKE 검색으로 동작한다. (ScrapKeywordCondition)
+ALTER TABLE scrap ADD FULLTEXT INDEX ft_scrap_title_description (title, description) WITH PARSER ngram;
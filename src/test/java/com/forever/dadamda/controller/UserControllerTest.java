@@ -89,4 +89,22 @@ public class UserControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.nickname").value("귀여운해달1"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.createdAt").value("1672744261"));
     }
+
+    @Test
+    @WithCustomMockUser
+    public void should_it_returns_user_and_counts_When_getting_user_summary() throws Exception {
+        // 유저 요약 정보를 조회할 때, 회원 정보와 타입별 스크랩 개수, 보드 개수를 한번에 조회할 수 있다.
+        //given
+        //when
+        //then
+        mockMvc.perform(get("/v1/user/summary")
+                        .header("X-AUTH-TOKEN", "aaaaaaa")
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.user.email").value("1234@naver.com"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.user.nickname").value("귀여운해달1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.scrapCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.videoCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.boardCount").value(0));
+    }
 }
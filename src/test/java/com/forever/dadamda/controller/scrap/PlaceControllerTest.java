@@ -1,8 +1,12 @@
 package com.forever.dadamda.controller.scrap;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
 import com.forever.dadamda.mock.WithCustomMockUser;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -23,6 +27,9 @@ public class PlaceControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @WithCustomMockUser
     public void should_latitude_is_returned_in_the_decimal_type_When_getting_place_list() throws Exception {
@@ -50,4 +57,22 @@ public class PlaceControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[0].memoList[0].memoText").value("Hello 1"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[0].memoList[1]").doesNotExist());
     }
+
+    @Test
+    @WithCustomMockUser
+    public void should_memos_are_loaded_in_one_query_When_getting_place_list() throws Exception {
+        // 장소 스크랩 목록을 조회할 때, 스크랩 개수와 상관없이 메모를 한번의 쿼리로 조회하는지 확인 (N+1 방지)
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/v1/scraps/places")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .header("X-AUTH-TOKEN", "aaaaaaa"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[1]").exists());
+
+        // 사용자 조회, 스크랩 목록 조회, 메모 조회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
 }
@@ -1,12 +1,19 @@
 package com.forever.dadamda.controller.scrap;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
+import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.mock.WithCustomMockUser;
+import java.nio.charset.StandardCharsets;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -16,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 @SpringBootTest
@@ -28,6 +36,9 @@ public class ScrapControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -186,4 +197,94 @@ public class ScrapControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[0].memoList[2]").doesNotExist());
     }
+
+    @Test
+    @WithCustomMockUser
+    public void should_memos_are_loaded_in_one_query_When_getting_scrap_list() throws Exception {
+        // 스크랩 목록을 조회할 때, 스크랩 개수와 상관없이 메모를 한번의 쿼리로 조회하는지 확인 (N+1 방지)
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/v1/scraps")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .header("X-AUTH-TOKEN", "aaaaaaa"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[3]").exists());
+
+        // 사용자 조회, 스크랩 목록 조회, 메모 조회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @WithCustomMockUser
+    public void should_scrap_entities_are_not_loaded_When_getting_scrap_list() throws Exception {
+        // 스크랩 목록을 조회할 때, 스크랩 엔티티를 만들지 않고 필요한 컬럼만 조회하는지 확인
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/v1/scraps")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .header("X-AUTH-TOKEN", "aaaaaaa"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[0].scrapId").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[1].siteName").value("Velog"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.content[2].watchedCnt").value("100회"));
+
+        assertThat(statistics.getEntityStatistics(Scrap.class.getName()).getLoadCount())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @WithCustomMockUser
+    public void should_scraps_are_streamed_with_memos_in_ndjson_When_exporting_scraps() throws Exception {
+        // 스크랩을 NDJSON으로 내보낼 때, 한 줄에 스크랩 하나씩 메모와 함께 scrapId 순서로 내보내는지 확인
+        MvcResult mvcResult = mockMvc.perform(get("/v1/scraps/export")
+                        .param("format", "ndjson")
+                        .header("X-AUTH-TOKEN", "aaaaaaa"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content()
+                        .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String firstLine = content.split("\n")[0];
+        assertThat(firstLine).startsWith("{\"scrapId\":1,");
+        assertThat(firstLine).contains("\"memos\":[{");
+    }
+
+    @Test
+    @WithCustomMockUser
+    public void should_header_is_written_first_When_exporting_scraps_in_csv() throws Exception {
+        // 스크랩을 CSV로 내보낼 때, 헤더 다음에 스크랩이 scrapId 순서로 내보내지는지 확인
+        MvcResult mvcResult = mockMvc.perform(get("/v1/scraps/export")
+                        .param("format", "csv")
+                        .header("X-AUTH-TOKEN", "aaaaaaa"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = content.split("\r\n");
+        assertThat(lines[0]).isEqualTo("\uFEFFscrap_id,type,page_url,title,description,"
+                + "site_name,thumbnail_url,created_date,memos");
+        assertThat(lines[1]).startsWith("1,product,https://www.coupang.com,");
+    }
+
+    @Test
+    @WithCustomMockUser
+    public void should_it_returns_4xx_error_When_exporting_scraps_in_unsupported_format()
+            throws Exception {
+        // 지원하지 않는 형식으로 스크랩을 내보낼 때, 400 에러 발생
+        mockMvc.perform(get("/v1/scraps/export")
+                        .param("format", "xlsx")
+                        .header("X-AUTH-TOKEN", "aaaaaaa"))
+                .andExpect(MockMvcResultMatchers.status().is4xxClientError());
+    }
 }
@@ -1,10 +1,12 @@
 package com.forever.dadamda.repository;
 
+import com.forever.dadamda.repository.scrap.ScrapKeywordCondition;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @TestConfiguration
 public class TestConfig {
@@ -16,4 +18,9 @@ public class TestConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
+
+    @Bean
+    public ScrapKeywordCondition scrapKeywordCondition(JdbcTemplate jdbcTemplate) {
+        return new ScrapKeywordCondition(jdbcTemplate, false, 2);
+    }
 }
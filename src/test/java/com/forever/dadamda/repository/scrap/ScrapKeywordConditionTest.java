@@ -0,0 +1,89 @@
+package com.forever.dadamda.repository.scrap;
+
+import static com.forever.dadamda.entity.scrap.QScrap.scrap;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.forever.dadamda.config.MysqlFunctionContributor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ScrapKeywordConditionTest {
+
+    @Test
+    void should_boolean_mode_operators_are_removed_When_converting_to_full_text_keyword() {
+        // FULLTEXT 검색어로 바꿀 때, BOOLEAN MODE 연산자는 제거된다.
+        //given
+        String keyword = " +오늘의 -일기* ";
+
+        //when
+        String fullTextKeyword = ScrapKeywordCondition.toFullTextKeyword(keyword);
+
+        //then
+        assertThat(fullTextKeyword).isEqualTo("오늘의 일기");
+    }
+
+    @Test
+    void should_like_condition_is_returned_When_full_text_index_is_not_ready() {
+        // FULLTEXT 인덱스가 준비되지 않았으면 LIKE 검색 조건을 사용한다.
+        //given
+        ScrapKeywordCondition scrapKeywordCondition = new ScrapKeywordCondition(null, false, 2);
+
+        //when
+        BooleanExpression condition = scrapKeywordCondition.matches(scrap.title,
+                scrap.description, "오늘");
+
+        //then
+        assertThat(condition).isEqualTo(scrap.title.containsIgnoreCase("오늘")
+                .or(scrap.description.containsIgnoreCase("오늘")));
+    }
+
+    @Test
+    void should_match_against_condition_is_returned_When_full_text_index_exists() {
+        // FULLTEXT 인덱스가 있으면 MATCH ... AGAINST 검색 조건을 사용한다.
+        //given
+        ScrapKeywordCondition scrapKeywordCondition = new ScrapKeywordCondition(
+                mockIndexCount(1), true, 2);
+        scrapKeywordCondition.checkFullTextIndex();
+
+        //when
+        BooleanExpression condition = scrapKeywordCondition.matches(scrap.title,
+                scrap.description, "오늘의 +일기");
+
+        //then
+        assertThat(condition.toString()).contains(MysqlFunctionContributor.MATCH_AGAINST);
+        assertThat(condition.toString()).contains("\"오늘의 일기\"");
+    }
+
+    @Test
+    void should_like_condition_is_returned_When_full_text_index_is_dropped_after_check() {
+        // 다시 확인했을 때 FULLTEXT 인덱스가 없으면 LIKE 검색 조건으로 돌아간다.
+        //given
+        JdbcTemplate jdbcTemplate = mockIndexCount(1);
+        ScrapKeywordCondition scrapKeywordCondition = new ScrapKeywordCondition(jdbcTemplate,
+                true, 2);
+        scrapKeywordCondition.checkFullTextIndex();
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class),
+                eq(ScrapKeywordCondition.FULL_TEXT_INDEX_NAME))).thenReturn(0);
+
+        //when
+        scrapKeywordCondition.checkFullTextIndex();
+        BooleanExpression condition = scrapKeywordCondition.matches(scrap.title,
+                scrap.description, "오늘");
+
+        //then
+        assertThat(condition).isEqualTo(scrap.title.containsIgnoreCase("오늘")
+                .or(scrap.description.containsIgnoreCase("오늘")));
+    }
+
+    private JdbcTemplate mockIndexCount(int indexCount) {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class),
+                eq(ScrapKeywordCondition.FULL_TEXT_INDEX_NAME))).thenReturn(indexCount);
+        return jdbcTemplate;
+    }
+}
@@ -2,7 +2,10 @@ package com.forever.dadamda.repository.scrap;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import com.forever.dadamda.dto.scrap.ScrapCursor;
+import com.forever.dadamda.dto.scrap.ScrapListRow;
 import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.repository.TestConfig;
 import com.forever.dadamda.repository.UserRepository;
@@ -10,9 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
@@ -30,6 +32,9 @@ public class ScrapRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     String email = "1234@naver.com";
 
     @Test
@@ -38,14 +43,79 @@ public class ScrapRepositoryTest {
         // given
         User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
         String keyword = "오늘";
-        Pageable pageable = PageRequest.of(0, 2);
 
         //when
-        Slice<Scrap> results = scrapRepository.searchKeywordInScrapOrderByCreatedDateDesc(user,
-                keyword, pageable);
+        Slice<ScrapListRow> results = scrapRepository.findScrapListRowsByCursor(Scrap.class, user,
+                keyword, null, 2);
 
         // then
         assertThat(results.getSize()).isEqualByComparingTo(2);
         assertThat(results.hasNext()).isTrue();
     }
+
+    @Test
+    void should_return_scraps_created_before_the_cursor_When_searching_by_cursor() {
+        // 커서가 있으면 커서의 스크랩보다 먼저 생성된 스크랩만 반환된다.
+        // given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+        String keyword = "오늘";
+        Slice<ScrapListRow> firstPage = scrapRepository.findScrapListRowsByCursor(Scrap.class, user,
+                keyword, null, 1);
+
+        //when
+        Slice<ScrapListRow> results = scrapRepository.findScrapListRowsByCursor(Scrap.class, user,
+                keyword, ScrapCursor.decode(ScrapCursor.next(firstPage)), 2);
+
+        // then
+        assertThat(firstPage.getContent().get(0).getScrapId()).isEqualTo(4L);
+        assertThat(results.getContent().get(0).getScrapId()).isEqualTo(3L);
+        assertThat(results.getContent().get(1).getScrapId()).isEqualTo(2L);
+        assertThat(results.hasNext()).isFalse();
+    }
+
+    @Test
+    void should_return_only_scraps_of_the_type_When_searching_by_cursor_with_type() {
+        // 타입을 지정해서 커서로 조회하면 그 타입의 스크랩만 최신순으로 반환된다.
+        // given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+
+        //when
+        Slice<ScrapListRow> results = scrapRepository.findScrapListRowsByCursor(Video.class, user,
+                null, null, 10);
+
+        // then
+        assertThat(results.getNumberOfElements()).isEqualTo(2);
+        assertThat(results.getContent().get(0).getDType()).isEqualTo("Video");
+        assertThat(results.getContent().get(0).getScrapId()).isEqualTo(3L);
+        assertThat(results.getContent().get(1).getScrapId()).isEqualTo(2L);
+        assertThat(results.hasNext()).isFalse();
+    }
+
+    @Test
+    void should_ids_are_allocated_in_blocks_of_100_from_hibernate_sequence_table_When_saving_scraps() {
+        // 스크랩을 저장할 때, 운영과 같은 hibernate_sequence 테이블에서 id를 100개씩 받아서 차례로 쓴다.
+        // given
+        jdbcTemplate.update("DELETE FROM memo");
+        jdbcTemplate.update("DELETE FROM scrap");
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+        Long nextValue = jdbcTemplate.queryForObject("SELECT next_val FROM hibernate_sequence",
+                Long.class);
+
+        //when
+        Long lastId = null;
+        for (int i = 0; i <= 100; i++) {
+            Scrap scrap = scrapRepository.save(new Scrap(user, "https://www.example.com/" + i));
+            if (lastId != null) {
+                assertThat(scrap.getId()).isEqualTo(lastId + 1);
+            }
+            lastId = scrap.getId();
+        }
+
+        //then
+        Long allocatedNextValue = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM hibernate_sequence", Long.class);
+        assertThat(allocatedNextValue).isGreaterThan(nextValue);
+        assertThat((allocatedNextValue - nextValue) % 100).isEqualTo(0L);
+        assertThat(allocatedNextValue).isGreaterThan(lastId);
+    }
 }
@@ -0,0 +1,129 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(properties = "crawling.cache.enabled=true")
+@ActiveProfiles("test")
+public class CrawlingServiceTest {
+
+    @Autowired
+    private CrawlingService crawlingService;
+
+    @MockBean
+    private WebClientService webClientService;
+
+    @Test
+    void should_crawler_is_called_once_When_the_same_canonical_url_is_crawled_twice() {
+        // 정규화된 URL이 같은 페이지를 두 번 크롤링할 때, 크롤링 서버는 한 번만 호출된다.
+        //given
+        WebClientBodyResponse webClientBodyResponse = WebClientBodyResponse.builder()
+                .title("title")
+                .type("video")
+                .build();
+
+        BDDMockito.when(webClientService.crawlingItem(anyString(), anyString()))
+                .thenReturn(webClientBodyResponse);
+
+        //when
+        crawlingService.crawling("https://www.youtube.com/watch?v=cache&utm_source=kakao");
+        WebClientBodyResponse cachedResponse = crawlingService.crawling(
+                "https://youtube.com/watch?v=cache");
+
+        //then
+        assertThat(cachedResponse.getTitle()).isEqualTo("title");
+        verify(webClientService, times(1)).crawlingItem(anyString(), anyString());
+    }
+
+    @Test
+    void should_failed_result_is_not_cached_When_crawler_returns_null() {
+        // 크롤링 서버가 null을 반환할 때, 결과가 캐시되지 않고 다시 크롤링한다.
+        //given
+        BDDMockito.when(webClientService.crawlingItem(anyString(), anyString()))
+                .thenReturn(null);
+
+        //when
+        crawlingService.crawling("https://www.naver.com/not-cached");
+        crawlingService.crawling("https://www.naver.com/not-cached");
+
+        //then
+        verify(webClientService, times(2)).crawlingItem(anyString(), anyString());
+    }
+
+    @Test
+    void should_crawler_is_called_once_When_the_same_url_is_crawled_concurrently()
+            throws InterruptedException {
+        // 같은 URL을 동시에 크롤링할 때, 크롤링 서버는 한 번만 호출되고 모두 같은 결과를 받는다.
+        //given
+        WebClientBodyResponse webClientBodyResponse = WebClientBodyResponse.builder()
+                .title("viral")
+                .type("article")
+                .build();
+
+        BDDMockito.when(webClientService.crawlingItem(anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(500);
+                    return webClientBodyResponse;
+                });
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        List<WebClientBodyResponse> responses = new CopyOnWriteArrayList<>();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    responses.add(crawlingService.crawling("https://www.velog.io/viral"));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(responses.size()).isEqualTo(threadCount);
+        responses.forEach(response -> assertThat(response.getTitle()).isEqualTo("viral"));
+        verify(webClientService, times(1)).crawlingItem(anyString(), anyString());
+    }
+
+    @Test
+    void should_crawler_is_called_and_cache_is_updated_When_recrawling_a_cached_url() {
+        // 캐시된 URL을 재크롤링할 때, 캐시를 쓰지 않고 크롤링 서버를 호출하고 새 결과로 캐시를 바꾼다.
+        //given
+        String pageUrl = "https://www.coupang.com/recrawling";
+        BDDMockito.when(webClientService.crawlingItem(anyString(), anyString()))
+                .thenReturn(WebClientBodyResponse.builder().title("old").type("product").build());
+        BDDMockito.when(webClientService.crawlingItemMono(anyString(), anyString()))
+                .thenReturn(Mono.just(
+                        WebClientBodyResponse.builder().title("new").type("product").build()));
+        crawlingService.crawling(pageUrl);
+
+        //when
+        WebClientBodyResponse recrawledResponse = crawlingService.recrawlingMono(pageUrl).block();
+
+        //then
+        assertThat(recrawledResponse.getTitle()).isEqualTo("new");
+        assertThat(crawlingService.crawling(pageUrl).getTitle()).isEqualTo("new");
+        verify(webClientService, times(1)).crawlingItemMono(anyString(), anyString());
+    }
+}
@@ -7,6 +7,7 @@ import com.forever.dadamda.dto.user.OAuthAttributes;
 import com.forever.dadamda.entity.user.Provider;
 import com.forever.dadamda.entity.user.Role;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.UserCounterRepository;
 import com.forever.dadamda.repository.UserRepository;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ public class CustomOAuth2UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCounterRepository userCounterRepository;
+
     String email = "1234@gmail.com";
 
     @Test
@@ -46,6 +50,22 @@ public class CustomOAuth2UserServiceTest {
         assertThat(user.getModifiedDate().toString()).isEqualTo(user.getCreatedDate().toString());
     }
 
+    @Test
+    void should_counter_rows_are_created_with_zero_When_a_new_user_signs_up() {
+        // 새로운 유저가 가입할 때, 타입별 개수 row가 0으로 만들어진다.
+        //given
+        OAuthAttributes attributes = OAuthAttributes.builder().name("test").email(email)
+                .provider(Provider.GOOGLE).build();
+
+        //when
+        User user = customOAuth2UserService.saveOrUpdate(attributes);
+
+        //then
+        assertThat(userCounterRepository.findAllByUserId(user.getId()).size()).isEqualTo(6);
+        userCounterRepository.findAllByUserId(user.getId())
+                .forEach(counter -> assertThat(counter.getItemCount()).isEqualTo(0L));
+    }
+
     @Test
     void should_the_existing_nickname_and_uuid_is_not_changed_but_only_the_name_is_changed_When_logging_in_by_changing_the_user_name() {
         //  유저의 이름을 변경하여 로그인할때, 기존의 닉네임은 변경되지 않고, 이름만 변경된다.
@@ -4,18 +4,27 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.dto.memo.CreateHighlightRequest;
 import com.forever.dadamda.dto.memo.DeleteMemoRequest;
 import com.forever.dadamda.dto.memo.UpdateMemoRequest;
 import com.forever.dadamda.entity.Memo;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.MemoRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -29,6 +38,12 @@ public class MemoServiceTest {
     @Autowired
     private MemoRepository memoRepository;
 
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private WebClientService webClientService;
+
     String existentEmail = "1234@naver.com";
     String nonExistentEmail = "123@naver.com";
 
@@ -74,4 +89,36 @@ public class MemoServiceTest {
         assertThat(memo.getModifiedDate()).isAfter(memoPreviousUpdateDate);
         assertThat(memo.getMemoText()).isEqualTo("안녕하세요!");
     }
+
+    @Test
+    void should_no_transaction_and_connection_are_held_When_crawling_during_highlight_creation() {
+        // 하이라이트를 추가할 때 스크랩이 없어서 크롤링하는 경우, 크롤링하는 동안 트랜잭션과 DB 커넥션을 잡고 있지 않는지 확인
+        //given
+        String pageUrl = "https://www.naver.com/highlight";
+
+        HikariPoolMXBean hikariPool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        List<Boolean> isTransactionActive = new ArrayList<>();
+        List<Integer> activeConnections = new ArrayList<>();
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl))
+                .thenAnswer(invocation -> {
+                    isTransactionActive.add(
+                            TransactionSynchronizationManager.isActualTransactionActive());
+                    activeConnections.add(hikariPool.getActiveConnections());
+                    return null;
+                });
+
+        CreateHighlightRequest createHighlightRequest = CreateHighlightRequest.builder()
+                .pageUrl(pageUrl)
+                .selectedText("highlight")
+                .build();
+
+        //when
+        memoService.createHighlights(existentEmail, createHighlightRequest);
+
+        //then
+        assertThat(isTransactionActive.size()).isEqualTo(1);
+        assertThat(isTransactionActive.get(0)).isFalse();
+        assertThat(activeConnections.get(0)).isEqualTo(0);
+    }
 }
@@ -0,0 +1,72 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.forever.dadamda.repository.UserRepository;
+import com.forever.dadamda.service.user.NicknamePoolService;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest(properties = {"user.nickname-pool.enabled=true",
+        "user.nickname-pool.min-size=10", "user.nickname-pool.batch-size=20"})
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/user-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class NicknamePoolServiceTest {
+
+    @Autowired
+    private NicknamePoolService nicknamePoolService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobLockService jobLockService;
+
+    @Test
+    void should_pool_is_filled_up_to_min_size_When_refilling_nickname_pool() {
+        // 닉네임 풀을 채울 때, 풀이 min-size 이상이 된다.
+        //given
+        //when
+        nicknamePoolService.refill();
+
+        //then
+        assertThat(nicknamePoolService.size()).isGreaterThanOrEqualTo(10L);
+    }
+
+    @Test
+    void should_unused_nickname_is_allocated_When_allocating_nickname_from_pool() {
+        // 닉네임 풀에서 닉네임을 꺼낼 때, 사용 중이 아닌 닉네임이 나온다.
+        //given
+        nicknamePoolService.refill();
+
+        //when
+        Optional<String> nickname = nicknamePoolService.allocate();
+
+        //then
+        assertThat(nickname.isPresent()).isTrue();
+        assertThat(nickname.get().length()).isLessThanOrEqualTo(10);
+        assertThat(userRepository.existsByNickname(nickname.get())).isFalse();
+    }
+
+    @Test
+    void should_local_pool_is_filled_When_refill_lock_is_held_by_another_node() {
+        // 다른 서버가 닉네임 풀 채우기 잠금을 가지고 있을 때, 로컬 풀은 이 서버에서 채운다.
+        //given
+        jobLockService.createIfAbsent("nickname-pool-refill");
+        jobLockService.tryAcquire("nickname-pool-refill", Duration.ofMinutes(10));
+
+        //when
+        nicknamePoolService.refill();
+
+        //then
+        assertThat(nicknamePoolService.size()).isGreaterThanOrEqualTo(10L);
+        assertThat(nicknamePoolService.allocate().isPresent()).isTrue();
+    }
+}
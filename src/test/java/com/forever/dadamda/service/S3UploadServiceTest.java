@@ -0,0 +1,187 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.forever.dadamda.dto.upload.GetPresignedUploadUrlResponse;
+import com.forever.dadamda.exception.InvalidException;
+import java.net.URL;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "application.upload.multipart-threshold-bytes=1024")
+@ActiveProfiles("test")
+public class S3UploadServiceTest {
+
+    @Autowired
+    private S3UploadService s3UploadService;
+
+    @MockBean
+    private AmazonS3 s3Client;
+
+    @Test
+    void should_file_is_streamed_with_content_length_When_uploading_small_file() throws Exception {
+        // 작은 파일을 업로드할 때, 파일 길이를 지정해서 putObject 한번으로 업로드한다.
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png",
+                new byte[100]);
+        BDDMockito.when(s3Client.getUrl(anyString(), anyString()))
+                .thenReturn(new URL("https://test.s3.amazonaws.com/thumbnail/1"));
+
+        //when
+        String url = s3UploadService.upload("thumbnail/1", file);
+
+        //then
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture());
+        assertThat(request.getValue().getFile()).isNull();
+        assertThat(request.getValue().getMetadata().getContentLength()).isEqualTo(100L);
+        assertThat(request.getValue().getMetadata().getContentType()).isEqualTo("image/png");
+        assertThat(url).isEqualTo("https://test.s3.amazonaws.com/thumbnail/1");
+    }
+
+    @Test
+    void should_file_is_uploaded_in_parts_When_uploading_file_larger_than_threshold() throws Exception {
+        // 기준보다 큰 파일을 업로드할 때, 5MB 파트로 나눠서 멀티파트 업로드한다.
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png",
+                new byte[6 * 1024 * 1024]);
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("uploadId");
+        BDDMockito.when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)))
+                .thenReturn(initiateResult);
+        BDDMockito.when(s3Client.uploadPart(any(UploadPartRequest.class)))
+                .thenAnswer(invocation -> {
+                    UploadPartRequest request = invocation.getArgument(0);
+                    UploadPartResult result = new UploadPartResult();
+                    result.setPartNumber(request.getPartNumber());
+                    result.setETag("etag" + request.getPartNumber());
+                    return result;
+                });
+        BDDMockito.when(s3Client.getUrl(anyString(), anyString()))
+                .thenReturn(new URL("https://test.s3.amazonaws.com/thumbnail/1"));
+
+        //when
+        s3UploadService.upload("thumbnail/1", file);
+
+        //then
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(2)).uploadPart(parts.capture());
+        assertThat(parts.getAllValues().get(0).getPartSize()).isEqualTo(5L * 1024 * 1024);
+        assertThat(parts.getAllValues().get(1).getPartSize()).isEqualTo(1024L * 1024);
+        assertThat(parts.getAllValues().get(1).isLastPart()).isTrue();
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void should_put_url_signed_with_content_type_is_returned_When_requesting_image_upload_url()
+            throws Exception {
+        // 이미지 업로드 URL을 요청할 때, 임시 key에 Content-Type이 서명된 PUT presigned URL을 반환한다.
+        //given
+        BDDMockito.when(s3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://test.s3.amazonaws.com/thumbnail/1?X-Amz-Signature=1"));
+
+        //when
+        GetPresignedUploadUrlResponse response = s3UploadService.generateImageUploadUrl(
+                "thumbnail/1", "image/png");
+
+        //then
+        ArgumentCaptor<GeneratePresignedUrlRequest> request = ArgumentCaptor.forClass(
+                GeneratePresignedUrlRequest.class);
+        verify(s3Client).generatePresignedUrl(request.capture());
+        assertThat(request.getValue().getMethod()).isEqualTo(HttpMethod.PUT);
+        assertThat(request.getValue().getKey()).isEqualTo(response.getUploadKey());
+        assertThat(response.getUploadKey().startsWith("pending/thumbnail/1/")).isTrue();
+        assertThat(request.getValue().getContentType()).isEqualTo("image/png");
+        assertThat(response.getUploadUrl())
+                .isEqualTo("https://test.s3.amazonaws.com/thumbnail/1?X-Amz-Signature=1");
+    }
+
+    @Test
+    void should_exception_is_thrown_When_requesting_upload_url_for_non_image_content_type() {
+        // 이미지가 아닌 형식으로 업로드 URL을 요청할 때, 예외가 발생한다.
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> s3UploadService.generateImageUploadUrl("thumbnail/1",
+                "text/html")).isInstanceOf(InvalidException.class);
+    }
+
+    @Test
+    void should_only_pending_object_is_deleted_When_confirming_uploaded_image_larger_than_max_size() {
+        // 최대 크기보다 큰 이미지를 확인할 때, 임시 파일만 지우고 기존 파일은 두고 예외가 발생한다.
+        //given
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/png");
+        metadata.setContentLength(20L * 1024 * 1024);
+        BDDMockito.when(s3Client.getObjectMetadata(anyString(), anyString()))
+                .thenReturn(metadata);
+
+        //when
+        //then
+        assertThatThrownBy(() -> s3UploadService.confirmImageUpload("thumbnail/1",
+                "pending/thumbnail/1/abc")).isInstanceOf(InvalidException.class);
+        verify(s3Client).deleteObject(anyString(), eq("pending/thumbnail/1/abc"));
+        verify(s3Client, never()).deleteObject(anyString(), eq("thumbnail/1"));
+        verify(s3Client, never()).copyObject(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void should_exception_is_thrown_When_confirming_upload_key_of_other_file() {
+        // 다른 파일의 임시 key로 확인할 때, S3를 조회하지 않고 예외가 발생한다.
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> s3UploadService.confirmImageUpload("thumbnail/1",
+                "pending/thumbnail/2/abc")).isInstanceOf(InvalidException.class);
+        assertThatThrownBy(() -> s3UploadService.confirmImageUpload("thumbnail/1",
+                "pending/thumbnail/1/abc/def")).isInstanceOf(InvalidException.class);
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @Test
+    void should_pending_object_is_copied_to_key_When_confirming_uploaded_image() throws Exception {
+        // 올바른 이미지를 확인할 때, 임시 파일을 key로 복사하고 파일 URL을 반환한다.
+        //given
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/jpeg");
+        metadata.setContentLength(100L);
+        BDDMockito.when(s3Client.getObjectMetadata(anyString(), anyString()))
+                .thenReturn(metadata);
+        BDDMockito.when(s3Client.getUrl(anyString(), anyString()))
+                .thenReturn(new URL("https://test.s3.amazonaws.com/thumbnail/1"));
+
+        //when
+        String url = s3UploadService.confirmImageUpload("thumbnail/1", "pending/thumbnail/1/abc");
+
+        //then
+        assertThat(url).isEqualTo("https://test.s3.amazonaws.com/thumbnail/1");
+        verify(s3Client).copyObject(anyString(), eq("pending/thumbnail/1/abc"), anyString(),
+                eq("thumbnail/1"));
+        verify(s3Client).deleteObject(anyString(), eq("pending/thumbnail/1/abc"));
+        verify(s3Client, never()).deleteObject(anyString(), eq("thumbnail/1"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/user-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class TokenServiceTest {
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    String existentEmail = "1234@naver.com";
+
+    @Test
+    void should_cached_claims_are_returned_When_verifying_the_same_token_twice() {
+        // 같은 토큰을 두 번 검증할 때, 두 번째는 서명을 다시 검증하지 않고 캐시된 클레임을 반환한다.
+        //given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(existentEmail).get();
+        String token = tokenService.generateToken(user, "USER");
+
+        //when
+        Claims claims = tokenService.verifyToken(token);
+        Claims cachedClaims = tokenService.verifyToken(token);
+
+        //then
+        assertThat(cachedClaims).isSameAs(claims);
+        assertThat(claims.getSubject()).isEqualTo(existentEmail);
+        assertThat(claims.get(TokenService.USER_ID_CLAIM, Long.class)).isEqualTo(user.getId());
+    }
+
+    @Test
+    void should_exception_is_thrown_When_verifying_token_with_changed_signature() {
+        // 서명이 바뀐 토큰을 검증할 때, 예외가 발생한다.
+        //given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(existentEmail).get();
+        String token = tokenService.generateToken(user, "USER");
+        int index = token.length() - 5;
+        String changedChar = token.charAt(index) == 'A' ? "B" : "A";
+        String changedToken = token.substring(0, index) + changedChar + token.substring(index + 1);
+
+        //when
+        //then
+        assertThatThrownBy(() -> tokenService.verifyToken(changedToken))
+                .isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.exception.NotFoundException;
+import com.forever.dadamda.service.user.UserCacheService;
+import com.forever.dadamda.service.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest(properties = "user.cache.enabled=true")
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/user-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class UserCacheServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCacheService userCacheService;
+
+    String existentEmail = "1234@naver.com";
+
+    @Test
+    void should_cached_user_is_returned_When_validating_the_same_user_twice() {
+        // 같은 회원을 두 번 확인할 때, 두 번째는 DB를 조회하지 않고 캐시된 회원을 반환한다.
+        //given
+        userCacheService.evict(existentEmail);
+        User user = userService.validateUser(existentEmail);
+
+        //when
+        User cachedUser = userService.validateUser(existentEmail);
+
+        //then
+        assertThat(cachedUser).isSameAs(user);
+    }
+
+    @Test
+    void should_changed_nickname_is_returned_When_validating_user_after_nickname_is_changed() {
+        // 닉네임을 변경한 뒤 회원을 확인할 때, 캐시가 지워져서 변경된 닉네임이 조회된다.
+        //given
+        userService.validateUser(existentEmail);
+
+        //when
+        userService.updateNickname("nickname1", existentEmail);
+
+        //then
+        assertThat(userService.validateUser(existentEmail).getNickname()).isEqualTo("nickname1");
+    }
+
+    @Test
+    void should_deleted_user_is_not_returned_When_validating_user_after_deleting_user() {
+        // 회원 탈퇴 후 회원을 확인할 때, 캐시가 지워져서 회원이 존재하지 않는다는 예외가 발생한다.
+        //given
+        userService.validateUser(existentEmail);
+
+        //when
+        userService.deleteUser(existentEmail);
+
+        //then
+        assertThatThrownBy(() -> userService.validateUser(existentEmail))
+                .isInstanceOf(NotFoundException.class);
+    }
+}
@@ -1,13 +1,26 @@
 package com.forever.dadamda.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.exception.InvalidException;
+import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.UserRepository;
 import com.forever.dadamda.service.user.UserService;
+import java.net.URL;
 import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
@@ -24,6 +37,12 @@ public class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AmazonS3 s3Client;
+
     String existentEmail = "1234@naver.com";
 
     @Test
@@ -40,4 +59,63 @@ public class UserServiceTest {
         assertThat(user.getNickname()).isEqualTo(updateNickname);
         assertThat(user.getModifiedDate()).isAfter(user.getCreatedDate());
     }
+
+    @Test
+    void should_existing_profile_image_is_kept_When_confirming_uploaded_image_is_rejected() {
+        // 업로드한 프로필 이미지가 확인에서 거절될 때, 기존 프로필 이미지 URL과 파일이 그대로 남는다.
+        //given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(existentEmail).get();
+        String profileImageKey = "profileImage/" + user.getUuid();
+        String uploadKey = "pending/" + profileImageKey + "/abc";
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/png");
+        metadata.setContentLength(20L * 1024 * 1024);
+        BDDMockito.when(s3Client.getObjectMetadata(anyString(), eq(uploadKey)))
+                .thenReturn(metadata);
+
+        //when
+        //then
+        assertThatThrownBy(() -> userService.confirmProfileImage(existentEmail, uploadKey))
+                .isInstanceOf(InvalidException.class);
+
+        User result = userRepository.findByEmailAndDeletedDateIsNull(existentEmail).get();
+        assertThat(result.getProfileUrl()).isEqualTo("https://www.naver.com");
+        verify(s3Client).deleteObject(anyString(), eq(uploadKey));
+        verify(s3Client, never()).deleteObject(anyString(), eq(profileImageKey));
+    }
+
+    @Test
+    void should_copied_profile_image_is_deleted_When_updating_profile_url_fails_after_confirming()
+            throws Exception {
+        // 업로드한 프로필 이미지를 확인한 뒤 URL을 반영하지 못할 때, key로 복사한 파일을 지운다.
+        //given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(existentEmail).get();
+        String profileImageKey = "profileImage/" + user.getUuid();
+        String uploadKey = "pending/" + profileImageKey + "/abc";
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/png");
+        metadata.setContentLength(100L);
+        BDDMockito.when(s3Client.getObjectMetadata(anyString(), eq(uploadKey)))
+                .thenReturn(metadata);
+        BDDMockito.when(s3Client.getUrl(anyString(), eq(profileImageKey)))
+                .thenReturn(new URL("https://test.s3.amazonaws.com/" + profileImageKey));
+
+        // S3에 복사하는 동안 회원이 탈퇴한다.
+        BDDMockito.when(s3Client.copyObject(anyString(), eq(uploadKey), anyString(),
+                eq(profileImageKey))).thenAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE users SET deleted_date = NOW() WHERE email = ?",
+                    existentEmail);
+            return null;
+        });
+
+        //when
+        //then
+        assertThatThrownBy(() -> userService.confirmProfileImage(existentEmail, uploadKey))
+                .isInstanceOf(NotFoundException.class);
+
+        verify(s3Client).deleteObject(anyString(), eq(uploadKey));
+        verify(s3Client).deleteObject(anyString(), eq(profileImageKey));
+    }
 }
@@ -3,6 +3,7 @@ package com.forever.dadamda.service;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.io.IOException;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -20,6 +21,9 @@ public class WebClientServiceTest {
     @Autowired
     private WebClientService webClientService;
 
+    @Autowired
+    private CircuitBreaker crawlingCircuitBreaker;
+
     private MockWebServer mockWebServer;
     private String mockWebServerUrl;
 
@@ -113,4 +117,28 @@ public class WebClientServiceTest {
         //then
         assertThat(webClientBodyResponse).isEqualTo(null);
     }
+
+    @Test
+    void should_it_returns_null_without_calling_the_server_When_circuit_breaker_is_open() {
+        // 서킷 브레이커가 열려 있는 경우, webClient 서버를 호출하지 않고 null로 반환되는지 확인
+        //given
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(mockScrap)
+                .addHeader("Content-Type", "application/json"));
+
+        crawlingCircuitBreaker.transitionToOpenState();
+
+        try {
+            //when
+            WebClientBodyResponse webClientBodyResponse = webClientService.crawlingItem(
+                    mockWebServerUrl, "https://www.naver.com");
+
+            //then
+            assertThat(webClientBodyResponse).isEqualTo(null);
+            assertThat(mockWebServer.getRequestCount()).isEqualTo(0);
+        } finally {
+            crawlingCircuitBreaker.reset();
+        }
+    }
 }
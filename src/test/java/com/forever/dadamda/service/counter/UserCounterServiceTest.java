@@ -0,0 +1,83 @@
+package com.forever.dadamda.service.counter;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.forever.dadamda.repository.UserCounterRepository;
+import com.forever.dadamda.service.scrap.ScrapService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class UserCounterServiceTest {
+
+    @Autowired
+    private UserCounterService userCounterService;
+
+    @Autowired
+    private UserCounterRepository userCounterRepository;
+
+    @Autowired
+    private ScrapService scrapService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    String email = "1234@naver.com";
+    Long userId = 1L;
+
+    @Test
+    void should_counter_rows_are_created_with_actual_counts_When_reconciling_user_without_counters() {
+        // 개수 row가 없는 사용자를 보정하면, 타입별 row가 실제 개수로 만들어지는지 확인
+        //given
+        Long scrapCount = scrapService.getScrapCount(email);
+
+        //when
+        userCounterService.reconcile(List.of(userId));
+
+        //then
+        assertThat(userCounterRepository.findAllByUserId(userId).size()).isEqualTo(6);
+        assertThat(scrapService.getScrapCount(email)).isEqualTo(scrapCount);
+    }
+
+    @Test
+    void should_scrap_count_decreases_When_deleting_scrap_with_counters() {
+        // 개수 row가 있는 사용자가 스크랩을 삭제하면, 스크랩 개수가 1 줄어드는지 확인
+        //given
+        userCounterService.reconcile(List.of(userId));
+        Long scrapCount = scrapService.getScrapCount(email);
+        long productCount = userCounterService.getItemCount(userId, "Product");
+
+        //when
+        scrapService.deleteScraps(email, 1L);
+
+        //then
+        assertThat(scrapService.getScrapCount(email)).isEqualTo(scrapCount - 1);
+        assertThat(userCounterService.getItemCount(userId, "Product")).isEqualTo(productCount - 1);
+    }
+
+    @Test
+    void should_drifted_count_is_repaired_When_reconciling() {
+        // 개수가 실제 개수와 달라졌을 때 보정하면, 실제 개수로 고쳐지는지 확인
+        //given
+        userCounterService.reconcile(List.of(userId));
+        long videoCount = userCounterService.getItemCount(userId, "Video");
+        jdbcTemplate.update(
+                "UPDATE user_counter SET item_count = 100 WHERE user_id = 1 AND d_type = 'Video'");
+
+        //when
+        int reconciledCount = userCounterService.reconcile(List.of(userId));
+
+        //then
+        assertThat(reconciledCount).isEqualTo(1);
+        assertThat(userCounterService.getItemCount(userId, "Video")).isEqualTo(videoCount);
+    }
+}
@@ -3,6 +3,8 @@ package com.forever.dadamda.service.scrap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.forever.dadamda.dto.scrap.place.GetNearbyPlaceResponse;
+import com.forever.dadamda.dto.scrap.place.GetPlaceClusterResponse;
 import com.forever.dadamda.dto.scrap.place.GetPlaceResponse;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.scrap.Place;
@@ -10,7 +12,9 @@ import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.UserRepository;
 import com.forever.dadamda.repository.scrap.place.PlaceRepository;
+import com.forever.dadamda.util.UrlUtils;
 import java.math.BigDecimal;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -84,8 +88,8 @@ public class PlaceServiceTest {
     }
 
     @Test
-    void should_it_is_saved_as_pageUrl_received_through_WebClientBodyResponse_When_saving_a_place() {
-        // WebClientBodyResponse를 통해 받은 pageUrl로 저장되는지 확인
+    void should_it_is_saved_as_submitted_pageUrl_When_crawled_pageUrl_is_different() {
+        // 크롤링 결과의 pageUrl이 달라도, 사용자가 보낸 pageUrl과 그 url_hash로 저장되는지 확인
         //given
         memoRepository.deleteAll();
         placeRepository.deleteAll();
@@ -101,6 +105,81 @@ public class PlaceServiceTest {
         Place place = placeService.savePlace(webClientBodyResponse, user, existingPageUrl);
 
         //then
-        assertThat(place.getPageUrl()).isEqualTo(changedPageUrl);
+        assertThat(place.getPageUrl()).isEqualTo(existingPageUrl);
+        assertThat(place.getUrlHash()).isEqualTo(UrlUtils.hash(existingPageUrl));
+    }
+
+    @Test
+    void should_only_places_within_radius_are_returned_When_getting_nearby_places() {
+        // 주변 장소 조회시, 반지름 안에 있는 장소만 거리와 함께 조회되는지 확인
+        //given
+        //when
+        List<GetNearbyPlaceResponse> nearbyPlaces = placeService.getNearbyPlaces(email, 37.001,
+                127.0297, 1000, 20);
+
+        //then
+        assertThat(nearbyPlaces).hasSize(1);
+        assertThat(nearbyPlaces.get(0).getPlace().getScrapId()).isEqualTo(1L);
+        assertThat(nearbyPlaces.get(0).getDistance()).isBetween(100L, 120L);
+    }
+
+    @Test
+    void should_places_are_ordered_by_distance_from_center_When_getting_places_in_bounds() {
+        // 영역 안 장소 조회시, 영역 가운데에서 가까운 순서로 조회되는지 확인
+        //given
+        //when
+        List<GetNearbyPlaceResponse> places = placeService.getPlacesInBounds(email, 36.5, 126.0,
+                39.0, 127.5, 20);
+
+        //then
+        assertThat(places).hasSize(2);
+        assertThat(places.get(0).getPlace().getScrapId()).isEqualTo(1L);
+        assertThat(places.get(1).getPlace().getScrapId()).isEqualTo(2L);
+        assertThat(places.get(0).getDistance()).isLessThan(places.get(1).getDistance());
+    }
+
+    @Test
+    void should_only_nearest_places_up_to_size_are_returned_When_getting_places_in_bounds() {
+        // 영역 안 장소 조회시, 가운데에서 가까운 장소부터 size개만 조회되는지 확인
+        //given
+        //when
+        List<GetNearbyPlaceResponse> places = placeService.getPlacesInBounds(email, 36.5, 126.0,
+                39.0, 127.5, 1);
+
+        //then
+        assertThat(places).hasSize(1);
+        assertThat(places.get(0).getPlace().getScrapId()).isEqualTo(1L);
+        assertThat(places.get(0).getPlace().getTitle()).isEqualTo("서울 빌딩");
+    }
+
+    @Test
+    void should_places_in_same_cell_are_grouped_into_one_cluster_When_getting_place_clusters() {
+        // 장소 클러스터 조회시, 낮은 줌 레벨에서는 두 장소가 하나의 클러스터로 묶이는지 확인
+        //given
+        //when
+        List<GetPlaceClusterResponse> clusters = placeService.getPlaceClusters(email, 36.5,
+                126.0, 39.0, 127.5, 0);
+
+        //then
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0).getCount()).isEqualTo(2L);
+        assertThat(clusters.get(0).getLatitude()).isBetween(37.74, 37.76);
+        assertThat(clusters.get(0).getScrapId()).isNull();
+    }
+
+    @Test
+    void should_each_place_is_own_cluster_with_scrap_id_When_getting_place_clusters_at_high_zoom() {
+        // 장소 클러스터 조회시, 높은 줌 레벨에서는 장소마다 클러스터가 나뉘고 스크랩 id가 조회되는지 확인
+        //given
+        //when
+        List<GetPlaceClusterResponse> clusters = placeService.getPlaceClusters(email, 36.5,
+                126.0, 39.0, 127.5, 10);
+
+        //then
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters.get(0).getGeohash()).isEqualTo("wycg");
+        assertThat(clusters.get(0).getScrapId()).isEqualTo(2L);
+        assertThat(clusters.get(1).getGeohash()).isEqualTo("wyd6");
+        assertThat(clusters.get(1).getCount()).isEqualTo(1L);
     }
 }
@@ -0,0 +1,84 @@
+package com.forever.dadamda.service.scrap;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.entity.job.JobLock;
+import com.forever.dadamda.entity.scrap.Video;
+import com.forever.dadamda.repository.JobLockRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.JobLockService;
+import com.forever.dadamda.service.WebClientService;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(properties = "scrap.recrawling.enabled=true")
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class RecrawlingServiceTest {
+
+    @Autowired
+    private RecrawlingService recrawlingService;
+
+    @Autowired
+    private ScrapRepository scrapRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private JobLockService jobLockService;
+
+    @MockBean
+    private WebClientService webClientService;
+
+    @Test
+    void should_watched_count_and_crawled_date_are_updated_When_stale_scraps_are_recrawled() {
+        // 오래된 스크랩을 다시 크롤링할 때, 조회수와 crawledDate가 갱신되고 삭제된 스크랩은 제외되는지 확인
+        //given
+        WebClientBodyResponse webClientBodyResponse = WebClientBodyResponse.builder()
+                .type("video")
+                .build();
+        BDDMockito.when(webClientService.crawlingItemMono(anyString(), anyString()))
+                .thenReturn(Mono.just(webClientBodyResponse));
+
+        //when
+        recrawlingService.recrawlStaleScraps();
+
+        //then
+        Video video = (Video) scrapRepository.findById(2L).get();
+        assertThat(video.getCrawledDate()).isNotNull();
+        assertThat(scrapRepository.findById(5L).get().getCrawledDate()).isNull();
+
+        JobLock jobLock = jobLockRepository.findById("recrawling").get();
+        assertThat(jobLock.getLockedUntil()).isNull();
+        assertThat(jobLock.getCheckpoint()).isNull();
+    }
+
+    @Test
+    void should_scraps_are_not_recrawled_When_the_lock_is_already_held() {
+        // 재크롤링 잠금이 이미 잡혀 있을 때(다른 서버에서 실행 중), 스크랩을 다시 크롤링하지 않는지 확인
+        //given
+        jobLockService.createIfAbsent("recrawling");
+        jobLockService.tryAcquire("recrawling", Duration.ofMinutes(10));
+
+        //when
+        recrawlingService.recrawlStaleScraps();
+
+        //then
+        verify(webClientService, never()).crawlingItemMono(anyString(), anyString());
+        assertThat(scrapRepository.findById(2L).get().getCrawledDate()).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package com.forever.dadamda.service.scrap;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.forever.dadamda.dto.scrap.CreateScrapBulkResponse;
+import com.forever.dadamda.dto.scrap.CreateScrapBulkResponse.Status;
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.entity.scrap.Video;
+import com.forever.dadamda.repository.MemoRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.WebClientService;
+import java.util.List;
+import net.minidev.json.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class ScrapBulkServiceTest {
+
+    @Autowired
+    private ScrapBulkService scrapBulkService;
+
+    @Autowired
+    private ScrapService scrapService;
+
+    @Autowired
+    private ScrapRepository scrapRepository;
+
+    @Autowired
+    private MemoRepository memoRepository;
+
+    @MockBean
+    private WebClientService webClientService;
+
+    String email = "1234@naver.com";
+
+    @Test
+    void should_only_new_urls_are_saved_When_urls_with_duplicates_are_created_in_bulk()
+            throws ParseException {
+        // 여러개의 URL을 한번에 스크랩할 때, 이미 저장된 URL과 요청 안에서 중복된 URL은 저장되지 않는지 확인
+        //given
+        memoRepository.deleteAll();
+        scrapRepository.deleteAll();
+
+        scrapService.createScraps(email, "https://www.naver.com");
+
+        WebClientBodyResponse webClientBodyResponse = new WebClientBodyResponse().builder()
+                .title("title")
+                .type("video")
+                .build();
+
+        BDDMockito.when(webClientService.crawlingItemMono(eq("test"), anyString()))
+                .thenReturn(Mono.just(webClientBodyResponse));
+
+        List<String> pageUrls = List.of(
+                "https://naver.com/",
+                "https://www.youtube.com/watch?v=1",
+                "http://www.youtube.com/watch?v=1&utm_source=kakao");
+
+        //when
+        List<CreateScrapBulkResponse> responses = scrapBulkService.createScrapsBulk(email, pageUrls)
+                .collectList().block();
+
+        //then
+        assertThat(responses.size()).isEqualTo(3);
+        assertThat(responses.stream().filter(response -> response.getStatus() == Status.DUPLICATED)
+                .count()).isEqualTo(2);
+
+        CreateScrapBulkResponse createdResponse = responses.stream()
+                .filter(response -> response.getStatus() == Status.CREATED)
+                .findFirst().get();
+        assertThat(createdResponse.getPageUrl()).isEqualTo("https://www.youtube.com/watch?v=1");
+        assertThat(scrapRepository.findById(createdResponse.getScrapId()).get())
+                .isInstanceOf(Video.class);
+        assertThat(scrapRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void should_only_invalid_url_is_failed_When_one_scrap_in_batch_cannot_be_saved() {
+        // 일괄 저장 중 한 개를 저장할 수 없을 때, 그 URL만 실패하고 나머지는 저장되는지 확인
+        //given
+        memoRepository.deleteAll();
+        scrapRepository.deleteAll();
+
+        WebClientBodyResponse webClientBodyResponse = new WebClientBodyResponse().builder()
+                .title("title")
+                .type("video")
+                .build();
+
+        BDDMockito.when(webClientService.crawlingItemMono(eq("test"), anyString()))
+                .thenReturn(Mono.just(webClientBodyResponse));
+
+        // page_url 컬럼(2083자)보다 긴 URL
+        String tooLongPageUrl = "https://www.youtube.com/watch?v=" + "a".repeat(2100);
+        List<String> pageUrls = List.of("https://www.youtube.com/watch?v=1", tooLongPageUrl);
+
+        //when
+        List<CreateScrapBulkResponse> responses = scrapBulkService.createScrapsBulk(email, pageUrls)
+                .collectList().block();
+
+        //then
+        assertThat(responses.size()).isEqualTo(2);
+        CreateScrapBulkResponse failedResponse = responses.stream()
+                .filter(response -> response.getStatus() == Status.FAILED)
+                .findFirst().get();
+        assertThat(failedResponse.getPageUrl()).isEqualTo(tooLongPageUrl);
+        assertThat(responses.stream().filter(response -> response.getStatus() == Status.CREATED)
+                .count()).isEqualTo(1);
+        assertThat(scrapRepository.count()).isEqualTo(1);
+    }
+}
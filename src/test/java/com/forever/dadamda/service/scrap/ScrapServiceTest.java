@@ -4,17 +4,27 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.forever.dadamda.dto.scrap.GetCursorSliceResponse;
 import com.forever.dadamda.dto.scrap.GetScrapResponse;
+import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.entity.scrap.Other;
 import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.UserRepository;
 import com.forever.dadamda.repository.scrap.ScrapRepository;
 import com.forever.dadamda.service.WebClientService;
+import com.forever.dadamda.util.UrlUtils;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
 import net.minidev.json.parser.ParseException;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
@@ -26,6 +36,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -48,6 +59,18 @@ public class ScrapServiceTest {
     @Autowired
     private MemoRepository memoRepository;
 
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OtherService otherService;
+
+    @Autowired
+    private ArticleService articleService;
+
     String email = "1234@naver.com";
     Long existentScrapId = 1L;
     Long notExistentScrapId = 100L;
@@ -113,7 +136,8 @@ public class ScrapServiceTest {
         //when
         //then
         assertThat(scrapService.saveScraps(user, pageUrl)).isInstanceOf(Other.class);
-        assertThat(scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(pageUrl, user)
+        assertThat(scrapRepository.findFirstByUserAndUrlHashAndDeletedDateIsNull(user,
+                UrlUtils.hash(pageUrl))
                 .isPresent()).isTrue();
     }
 
@@ -165,8 +189,161 @@ public class ScrapServiceTest {
         scrapService.saveScraps(user, pageUrl);
 
         //then
-        Scrap scrap = scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(pageUrl, user).get();
+        Scrap scrap = scrapRepository.findFirstByUserAndUrlHashAndDeletedDateIsNull(user,
+                UrlUtils.hash(pageUrl)).get();
         assertThat(scrap.getDescription().length()).isEqualTo(1000);
         assertThat(description.length()).isEqualTo(1001);
     }
+
+    @Test
+    void should_placeholder_scrap_is_upgraded_to_article_When_scrap_is_created_asynchronously()
+            throws InterruptedException {
+        // 비동기로 스크랩을 추가할 때, 임시로 저장된 Other 스크랩이 크롤링 후 Article로 변경되는지 확인
+        //given
+        memoRepository.deleteAll();
+        scrapRepository.deleteAll();
+
+        WebClientBodyResponse webClientBodyResponse = new WebClientBodyResponse().builder()
+                .title("title")
+                .type("article")
+                .build();
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl))
+                .thenReturn(webClientBodyResponse);
+
+        //when
+        Long scrapId = scrapService.createScrapsAsync(email, pageUrl).getScrapId();
+
+        //then
+        Scrap scrap = scrapRepository.findById(scrapId).get();
+        for (int i = 0; i < 50 && !(scrap instanceof Article); i++) {
+            Thread.sleep(100);
+            scrap = scrapRepository.findById(scrapId).get();
+        }
+        assertThat(scrap).isInstanceOf(Article.class);
+        assertThat(scrap.getTitle()).isEqualTo("title");
+        assertThat(scrapRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_user_edits_are_kept_When_placeholder_scrap_is_upgraded_after_user_edits_it() {
+        // 임시 스크랩을 사용자가 수정한 뒤 크롤링 결과로 변경될 때, 수정한 제목과 설명이 유지되는지 확인
+        //given
+        memoRepository.deleteAll();
+        scrapRepository.deleteAll();
+
+        User user = userRepository.findById(1L).get();
+        Long scrapId = otherService.saveOther(new WebClientBodyResponse(), user, pageUrl).getId();
+        scrapService.updateScraps(email, UpdateScrapRequest.builder()
+                .scrapId(scrapId)
+                .dType("other")
+                .title("user title")
+                .description("user description")
+                .build());
+
+        WebClientBodyResponse webClientBodyResponse = new WebClientBodyResponse().builder()
+                .title("crawled title")
+                .description("crawled description")
+                .thumbnailUrl("https://www.naver.com/thumbnail.png")
+                .type("article")
+                .build();
+
+        //when
+        articleService.upgradeArticle(scrapId, webClientBodyResponse);
+
+        //then
+        Scrap scrap = scrapRepository.findById(scrapId).get();
+        assertThat(scrap).isInstanceOf(Article.class);
+        assertThat(scrap.getTitle()).isEqualTo("user title");
+        assertThat(scrap.getDescription()).isEqualTo("user description");
+        assertThat(scrap.getThumbnailUrl()).isEqualTo("https://www.naver.com/thumbnail.png");
+    }
+
+    @Test
+    void should_no_transaction_and_connection_are_held_When_crawling_during_scrap_creation()
+            throws ParseException {
+        // 스크랩을 추가할 때, 크롤링하는 동안 트랜잭션과 DB 커넥션을 잡고 있지 않는지 확인
+        //given
+        memoRepository.deleteAll();
+        scrapRepository.deleteAll();
+
+        HikariPoolMXBean hikariPool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        List<Boolean> isTransactionActive = new ArrayList<>();
+        List<Integer> activeConnections = new ArrayList<>();
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl))
+                .thenAnswer(invocation -> {
+                    isTransactionActive.add(
+                            TransactionSynchronizationManager.isActualTransactionActive());
+                    activeConnections.add(hikariPool.getActiveConnections());
+                    return null;
+                });
+
+        //when
+        scrapService.createScraps(email, pageUrl);
+
+        //then
+        assertThat(isTransactionActive.size()).isEqualTo(1);
+        assertThat(isTransactionActive.get(0)).isFalse();
+        assertThat(activeConnections.get(0)).isEqualTo(0);
+        assertThat(scrapRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_fallback_counter_and_save_timer_are_recorded_When_crawling_fails()
+            throws ParseException {
+        // 크롤링에 실패해서 Other로 저장할 때, fallback 카운터와 저장 시간 지표가 기록되는지 확인
+        //given
+        memoRepository.deleteAll();
+        scrapRepository.deleteAll();
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl)).thenReturn(null);
+
+        double fallbackCount = meterRegistry.counter("scrap.save.fallback", "reason",
+                "crawling_failed").count();
+        User user = userRepository.findById(1L).get();
+
+        //when
+        scrapService.saveScraps(user, pageUrl);
+
+        //then
+        assertThat(meterRegistry.counter("scrap.save.fallback", "reason", "crawling_failed")
+                .count()).isEqualTo(fallbackCount + 1);
+        assertThat(meterRegistry.get("scrap.save").tag("step", "persist").tag("type", "other")
+                .timer().count()).isGreaterThanOrEqualTo(1L);
+    }
+
+    @Test
+    void should_return_next_page_after_cursor_When_getting_scraps_by_cursor() {
+        // 커서로 조회하면 이전 페이지 다음 스크랩부터 최신순으로 반환하고, 마지막 페이지의 nextCursor는 null이다.
+        //given
+        int size = 2;
+
+        //when
+        GetCursorSliceResponse<GetScrapResponse> firstPage = scrapService.getScrapsByCursor(email,
+                null, null, size);
+        GetCursorSliceResponse<GetScrapResponse> secondPage = scrapService.getScrapsByCursor(email,
+                null, firstPage.getNextCursor(), size);
+
+        //then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getContent().get(0).getScrapId()).isEqualTo(1L);
+        assertThat(firstPage.getContent().get(1).getScrapId()).isEqualTo(4L);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getContent().get(0).getScrapId()).isEqualTo(3L);
+        assertThat(secondPage.getContent().get(1).getScrapId()).isEqualTo(2L);
+    }
+
+    @Test
+    void should_return_invalid_exception_When_cursor_is_malformed() {
+        // 잘못된 커서로 조회하면 InvalidException이 발생한다.
+        //given
+        String cursor = "invalid-cursor";
+
+        //when
+        //then
+        assertThatThrownBy(() -> scrapService.getScrapsByCursor(email, null, cursor, 2))
+                .isInstanceOf(InvalidException.class);
+    }
 }
@@ -0,0 +1,151 @@
+package com.forever.dadamda.service.search;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.forever.dadamda.dto.search.GetSearchResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+public class SearchIndexServiceTest {
+
+    private SearchIndexService searchIndexService;
+
+    Long userId = 1L;
+    Long otherUserId = 2L;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndexService = new SearchIndexService("", 0, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndexService.close();
+    }
+
+    @Test
+    void should_scraps_memos_and_boards_are_searched_together_When_searching_keyword() {
+        // 키워드로 검색하면 스크랩, 메모, 보드가 같이 검색되고 다른 사용자의 문서는 검색되지 않는다.
+        //given
+        searchIndexService.indexScrap(1L, userId, "맥북 프로 리뷰", "MacBook Pro 16인치", "Velog");
+        searchIndexService.indexMemo(2L, 1L, userId, "맥북 배터리가 오래 간다");
+        searchIndexService.indexBoard(3L, UUID.randomUUID(), userId, "맥북 구매 정리", null);
+        searchIndexService.indexScrap(4L, otherUserId, "맥북 에어", null, null);
+        searchIndexService.refresh();
+
+        //when
+        Slice<GetSearchResponse> results = searchIndexService.search(userId, "맥북",
+                PageRequest.of(0, 10));
+
+        //then
+        assertThat(results.getNumberOfElements()).isEqualTo(3);
+        assertThat(results.hasNext()).isFalse();
+    }
+
+    @Test
+    void should_title_match_is_ranked_first_When_searching_keyword() {
+        // 제목에 키워드가 있는 문서가 설명에만 있는 문서보다 먼저 검색된다.
+        //given
+        searchIndexService.indexScrap(1L, userId, "오늘의 일기", "날씨가 맑음", null);
+        searchIndexService.indexScrap(2L, userId, "여행 사진", "제주도 날씨와 바다", null);
+        searchIndexService.indexScrap(3L, userId, "날씨 예보", "내일 비", null);
+        searchIndexService.refresh();
+
+        //when
+        Slice<GetSearchResponse> results = searchIndexService.search(userId, "날씨",
+                PageRequest.of(0, 2));
+
+        //then
+        assertThat(results.getContent().get(0).getId()).isEqualTo(3L);
+        assertThat(results.hasNext()).isTrue();
+    }
+
+    @Test
+    void should_deleted_scrap_and_its_memos_are_not_searched_When_scrap_is_deleted() {
+        // 스크랩을 색인에서 지우면 그 스크랩의 메모도 검색되지 않는다.
+        //given
+        searchIndexService.indexScrap(1L, userId, "맥북 프로 리뷰", null, null);
+        searchIndexService.indexMemo(2L, 1L, userId, "맥북 배터리");
+
+        //when
+        searchIndexService.deleteDocument(SearchDocumentType.SCRAP, 1L);
+        searchIndexService.deleteMemosOfScrap(1L);
+        searchIndexService.refresh();
+
+        //then
+        assertThat(searchIndexService.search(userId, "맥북", PageRequest.of(0, 10))
+                .getNumberOfElements()).isEqualTo(0);
+    }
+
+    @Test
+    void should_documents_not_reindexed_in_new_generation_are_deleted_When_reconciling() {
+        // 새 세대로 다시 색인되지 않은 문서(DB에서 지워진 문서)는 지워진다.
+        //given
+        searchIndexService.indexScrap(1L, userId, "맥북 프로 리뷰", null, null);
+        searchIndexService.indexScrap(2L, userId, "맥북 에어 리뷰", null, null);
+        String generation = searchIndexService.startGeneration();
+        searchIndexService.indexScrap(2L, userId, "맥북 에어 리뷰", null, null);
+
+        //when
+        searchIndexService.deleteDocumentsNotIn(generation);
+        searchIndexService.refresh();
+
+        //then
+        Slice<GetSearchResponse> results = searchIndexService.search(userId, "맥북",
+                PageRequest.of(0, 10));
+        assertThat(results.getNumberOfElements()).isEqualTo(1);
+        assertThat(results.getContent().get(0).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void should_checkpoint_is_kept_When_index_is_reopened(@TempDir Path indexPath)
+            throws IOException {
+        // checkpoint는 색인 커밋에 같이 저장되므로 색인을 다시 열어도 남아있다.
+        //given
+        LocalDateTime checkpoint = LocalDateTime.of(2023, 8, 4, 12, 15);
+        SearchIndexService fileIndexService = new SearchIndexService(indexPath.toString(), 0,
+                new SimpleMeterRegistry());
+        fileIndexService.indexScrap(1L, userId, "맥북 프로 리뷰", null, null);
+        fileIndexService.commit(checkpoint);
+        fileIndexService.close();
+
+        //when
+        SearchIndexService reopenedIndexService = new SearchIndexService(indexPath.toString(), 0,
+                new SimpleMeterRegistry());
+
+        //then
+        assertThat(reopenedIndexService.getCheckpoint()).isEqualTo(checkpoint);
+        assertThat(reopenedIndexService.getDocumentCount()).isEqualTo(1L);
+        reopenedIndexService.close();
+    }
+
+    @Test
+    void should_memory_index_is_used_When_index_lock_is_held_by_another_writer(
+            @TempDir Path indexPath) throws IOException {
+        // 다른 IndexWriter(종료 중인 이전 서버)가 write.lock을 놓지 않을 때, 예외 없이 메모리 색인으로 시작한다.
+        //given
+        SearchIndexService lockedIndexService = new SearchIndexService(indexPath.toString(), 0,
+                new SimpleMeterRegistry());
+        lockedIndexService.indexScrap(1L, userId, "맥북 프로 리뷰", null, null);
+        lockedIndexService.commit(LocalDateTime.of(2023, 8, 4, 12, 15));
+
+        //when
+        SearchIndexService fallbackIndexService = new SearchIndexService(indexPath.toString(), 1000,
+                new SimpleMeterRegistry());
+
+        //then
+        assertThat(fallbackIndexService.getCheckpoint()).isNull();
+        assertThat(fallbackIndexService.getDocumentCount()).isEqualTo(0L);
+        fallbackIndexService.close();
+        lockedIndexService.close();
+    }
+}
@@ -0,0 +1,71 @@
+package com.forever.dadamda.util;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class GeohashUtilsTest {
+
+    @Test
+    void should_known_geohash_is_returned_When_encoding_latitude_and_longitude() {
+        // 위도, 경도를 geohash로 변환할 때, 알려진 geohash 값과 같은지 확인
+        //given
+        //when
+        String geohash = GeohashUtils.encode(57.64911, 10.40744, 11);
+
+        //then
+        assertThat(geohash).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    void should_cells_cover_every_point_in_area_When_getting_covering_cells() {
+        // 영역을 덮는 셀을 구할 때, 영역의 모서리와 가운데 지점이 모두 셀 중 하나에 포함되는지 확인
+        //given
+        double[] boundingBox = GeohashUtils.boundingBox(37.0, 127.0297, 1000);
+
+        //when
+        Set<String> cells = GeohashUtils.coveringCells(boundingBox[0], boundingBox[1],
+                boundingBox[2], boundingBox[3], 16);
+
+        //then
+        assertThat(cells.size()).isLessThanOrEqualTo(16);
+        assertThat(isCovered(cells, boundingBox[0], boundingBox[1])).isTrue();
+        assertThat(isCovered(cells, boundingBox[2], boundingBox[3])).isTrue();
+        assertThat(isCovered(cells, boundingBox[0], boundingBox[3])).isTrue();
+        assertThat(isCovered(cells, boundingBox[2], boundingBox[1])).isTrue();
+        assertThat(isCovered(cells, 37.0, 127.0297)).isTrue();
+    }
+
+    @Test
+    void should_distance_is_about_111km_When_latitude_differs_by_1_degree() {
+        // 위도 1도 차이의 거리를 구할 때, 약 111km인지 확인
+        //given
+        //when
+        double distance = GeohashUtils.distanceMeters(37.0, 127.0, 38.0, 127.0);
+
+        //then
+        assertThat(Math.round(distance / 1000)).isEqualTo(111L);
+    }
+
+    @Test
+    void should_cell_is_narrower_than_eighth_of_tile_When_getting_precision_for_zoom() {
+        // 줌 레벨에 맞는 geohash 길이를 구할 때, 셀 하나의 경도 폭이 타일 폭의 1/8 이하인지 확인
+        //given
+        int zoom = 10;
+
+        //when
+        int precision = GeohashUtils.precisionForZoom(zoom);
+
+        //then
+        double tileWidth = 360.0 / (1 << zoom);
+        double cellWidth = 360.0 / (1L << ((5 * precision + 1) / 2));
+        assertThat(cellWidth).isLessThanOrEqualTo(tileWidth / 8);
+        assertThat(GeohashUtils.cellCount(37.0, 127.0, 37.0, 127.0, precision)).isEqualTo(1L);
+    }
+
+    private boolean isCovered(Set<String> cells, double latitude, double longitude) {
+        String geohash = GeohashUtils.encode(latitude, longitude, GeohashUtils.PRECISION);
+        return cells.stream().anyMatch(geohash::startsWith);
+    }
+}
@@ -0,0 +1,63 @@
+package com.forever.dadamda.util;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class UrlUtilsTest {
+
+    @Test
+    void should_tracking_params_and_fragment_are_removed_When_canonicalizing_url() {
+        // URL을 정규화할 때, 추적용 파라미터와 fragment가 제거된다.
+        //given
+        String pageUrl = "https://www.youtube.com/watch?v=abc&utm_source=kakao&fbclid=123#comments";
+
+        //when
+        String canonicalUrl = UrlUtils.canonicalize(pageUrl);
+
+        //then
+        assertThat(canonicalUrl).isEqualTo("https://youtube.com/watch?v=abc");
+    }
+
+    @Test
+    void should_same_url_is_returned_When_scheme_host_and_trailing_slash_are_different() {
+        // scheme, host 대소문자, 마지막 '/'만 다른 URL은 같은 URL로 정규화된다.
+        //given
+        String pageUrl1 = "HTTP://WWW.Naver.com/news/";
+        String pageUrl2 = "https://naver.com/news";
+
+        //when
+        //then
+        assertThat(UrlUtils.canonicalize(pageUrl1)).isEqualTo(UrlUtils.canonicalize(pageUrl2));
+    }
+
+    @Test
+    void should_query_params_are_sorted_When_canonicalizing_url() {
+        // URL을 정규화할 때, 쿼리 파라미터가 정렬된다.
+        //given
+        String pageUrl = "https://www.coupang.com/vp/products/1?vendorItemId=2&itemId=3";
+
+        //when
+        String canonicalUrl = UrlUtils.canonicalize(pageUrl);
+
+        //then
+        assertThat(canonicalUrl).isEqualTo("https://coupang.com/vp/products/1?itemId=3&vendorItemId=2");
+    }
+
+    @Test
+    void should_same_64_length_hash_is_returned_When_urls_point_to_the_same_page() {
+        // 같은 페이지를 가리키는 URL은 같은 64자리 해시를 가진다.
+        //given
+        String pageUrl1 = "http://www.naver.com/news/?utm_source=kakao";
+        String pageUrl2 = "https://naver.com/news";
+
+        //when
+        String hash1 = UrlUtils.hash(pageUrl1);
+        String hash2 = UrlUtils.hash(pageUrl2);
+
+        //then
+        assertThat(hash1).isEqualTo(hash2);
+        assertThat(hash1.length()).isEqualTo(64);
+        assertThat(UrlUtils.hash("https://naver.com/sports")).isNotEqualTo(hash1);
+    }
+}
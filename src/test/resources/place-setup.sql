@@ -3,11 +3,11 @@ INSERT INTO users (user_id, name, provider, role, email, profile_url, nickname,
 VALUES (1, 'koko', 0, 'USER', '1234@naver.com', 'https://www.naver.com', '귀여운해달1', '0782ef48-a439-01');
 
 -- Place 데이터 삽입
-INSERT INTO scrap (user_id, scrap_id, page_url, latitude, longitude, title, d_type, created_date)
-VALUES (1, 1, 'https://www.kakaomap.com/1', 37.00000000000000, 127.02969594506668, '서울 빌딩', 'Place', '2023-01-01 11:11:01');
+INSERT INTO scrap (user_id, scrap_id, page_url, latitude, longitude, geohash, title, d_type, created_date)
+VALUES (1, 1, 'https://www.kakaomap.com/1', 37.00000000000000, 127.02969594506668, 'wyd66xshw7yt', '서울 빌딩', 'Place', '2023-01-01 11:11:01');
 
-INSERT INTO scrap (user_id, scrap_id, page_url, latitude, longitude, title, d_type, created_date)
-VALUES (1, 2, 'https://www.kakaomap.com/1', 38.496490, 126.296959, '인천 빌딩', 'Place', '2023-01-02 11:11:01');
+INSERT INTO scrap (user_id, scrap_id, page_url, latitude, longitude, geohash, title, d_type, created_date)
+VALUES (1, 2, 'https://www.kakaomap.com/1', 38.496490, 126.296959, 'wycg1bndk3y7', '인천 빌딩', 'Place', '2023-01-02 11:11:01');
 
 -- 메모 데이터 삽입
 INSERT INTO memo (scrap_id, memo_id, memo_text, created_date)
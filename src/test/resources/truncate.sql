@@ -4,4 +4,6 @@ TRUNCATE TABLE users;
 TRUNCATE TABLE memo;
 TRUNCATE TABLE board;
 TRUNCATE TABLE heart;
+TRUNCATE TABLE job_lock;
+TRUNCATE TABLE user_counter;
 SET REFERENTIAL_INTEGRITY TRUE;